@@ -0,0 +1,41 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * InvestmentResult of a calculation with AdjustmentStages. Interest in the rows and
+ * totals is net of the adjustments; getAdjustmentTotals() gives the amount each stage
+ * took out over the whole horizon, in stage order.
+ */
+public class AdjustedInvestmentResult extends InvestmentResult {
+    private final Map<String, BigDecimal> adjustmentTotals;
+
+    public AdjustedInvestmentResult(BigDecimal startingAmount,
+                                    int years,
+                                    BigDecimal annualReturnRate,
+                                    CompoundingFrequency compoundingFrequency,
+                                    BigDecimal endBalance,
+                                    BigDecimal totalContributions,
+                                    BigDecimal totalInterest,
+                                    List<MonthlyData> monthlyData,
+                                    List<YearlyData> yearlyData,
+                                    Map<String, BigDecimal> adjustmentTotals) {
+        super(startingAmount, years, annualReturnRate, compoundingFrequency, endBalance,
+              totalContributions, totalInterest, monthlyData, yearlyData);
+        this.adjustmentTotals = adjustmentTotals;
+    }
+
+    /** Stage name to total amount taken out, in the order the stages ran. */
+    public Map<String, BigDecimal> getAdjustmentTotals() { return adjustmentTotals; }
+
+    /** Interest before any adjustment: net interest plus every stage's total. */
+    public BigDecimal getGrossInterest() {
+        BigDecimal gross = getTotalInterest();
+        for (BigDecimal total : adjustmentTotals.values()) {
+            gross = gross.add(total);
+        }
+        return gross;
+    }
+}
@@ -0,0 +1,25 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * One per-month cash-flow adjustment (an advisory fee, inflation, tax drag) applied
+ * inside the month loop after interest and contributions. See AdjustmentStages for
+ * the built-in stages.
+ *
+ * Implementations must be stateless or thread-confined: the same stage may be used by
+ * several calculations at once.
+ */
+public interface AdjustmentStage {
+
+    /** Name reported with the stage's total, e.g. "Advisory fee". */
+    String getName();
+
+    /**
+     * Amount to take out of the balance at the end of zero-based month {@code month}.
+     * {@code balance} is the unrounded balance after the earlier stages;
+     * {@code interestEarned} is the month's interest before any adjustment. A negative
+     * amount adds to the balance.
+     */
+    BigDecimal adjust(int month, BigDecimal balance, BigDecimal interestEarned);
+}
@@ -0,0 +1,64 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Built-in AdjustmentStages.
+ */
+public final class AdjustmentStages {
+
+    private AdjustmentStages() {}
+
+    /** Fee of annualPercent / 12 of the balance each month; nothing is charged on a negative balance. */
+    public static AdjustmentStage advisoryFee(BigDecimal annualPercent) {
+        BigDecimal monthlyRate = annualPercent.divide(BigDecimal.valueOf(1200), 30, RoundingMode.HALF_UP);
+        return new Stage("Advisory fee") {
+            @Override
+            public BigDecimal adjust(int month, BigDecimal balance, BigDecimal interestEarned) {
+                return balance.signum() > 0 ? balance.multiply(monthlyRate) : BigDecimal.ZERO;
+            }
+        };
+    }
+
+    /**
+     * Purchasing power lost to inflation of annualPercent a year, compounded monthly, so
+     * balances are expressed in money of the start date. Contributions are taken to be
+     * in money of the start date as well, i.e. they keep pace with inflation.
+     */
+    public static AdjustmentStage inflation(BigDecimal annualPercent) {
+        double deflator = 1.0 - Math.pow(1.0 + annualPercent.doubleValue() / 100.0, -1.0 / 12.0);
+        BigDecimal monthlyLoss = BigDecimal.valueOf(deflator);
+        return new Stage("Inflation") {
+            @Override
+            public BigDecimal adjust(int month, BigDecimal balance, BigDecimal interestEarned) {
+                return balance.multiply(monthlyLoss);
+            }
+        };
+    }
+
+    /** Tax of taxPercent on each month's positive interest. */
+    public static AdjustmentStage taxDrag(BigDecimal taxPercent) {
+        BigDecimal rate = taxPercent.divide(BigDecimal.valueOf(100), 30, RoundingMode.HALF_UP);
+        return new Stage("Tax drag") {
+            @Override
+            public BigDecimal adjust(int month, BigDecimal balance, BigDecimal interestEarned) {
+                return interestEarned.signum() > 0 ? interestEarned.multiply(rate) : BigDecimal.ZERO;
+            }
+        };
+    }
+
+    private abstract static class Stage implements AdjustmentStage {
+        private final String name;
+
+        Stage(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() { return name; }
+
+        @Override
+        public String toString() { return name; }
+    }
+}
@@ -0,0 +1,87 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Closed-form pieces of the month-by-month model.
+ *
+ * Months are counted as "months elapsed": advancing from month {@code from} to month
+ * {@code to} processes schedule months from+1 .. to. A contribution event happens in
+ * every month whose zero-based index is a multiple of the contribution interval
+ * (see FinalInvestmentEngine.contributionIntervalMonths).
+ *
+ * With monthly multiplier m and interval s, an event paid in zero-based month i grows
+ * to m^(to - i) at beginning of period or m^(to - i - 1) at end of period, so the sum
+ * over all events in the window is a geometric series in q = m^s.
+ */
+final class AnnuityMath {
+
+    /** Working precision for the BigDecimal closed forms. */
+    static final MathContext PRECISION = MathContext.DECIMAL128;
+
+    private AnnuityMath() {}
+
+    /** Number of contribution events in zero-based months [from, to). */
+    static int eventCount(int from, int to, int interval) {
+        int first = firstEventIndex(from, interval);
+        if (first >= to) return 0;
+        return (to - 1 - first) / interval + 1;
+    }
+
+    /**
+     * Sum of the growth factors of every contribution event in months [from, to),
+     * valued at month {@code to}. Multiply by the per-event amount to get the
+     * contribution part of the balance.
+     */
+    static BigDecimal contributionFactor(BigDecimal monthlyMultiplier, int from, int to,
+                                         int interval, boolean contributeAtBeginning) {
+        int events = eventCount(from, to, interval);
+        if (events == 0) return BigDecimal.ZERO;
+
+        int last = firstEventIndex(from, interval) + (events - 1) * interval;
+        int lastExponent = to - last - (contributeAtBeginning ? 0 : 1);
+        BigDecimal lastGrowth = monthlyMultiplier.pow(lastExponent, PRECISION);
+
+        BigDecimal q = monthlyMultiplier.pow(interval, PRECISION);
+        BigDecimal qMinusOne = q.subtract(BigDecimal.ONE);
+        if (qMinusOne.signum() == 0) {
+            return lastGrowth.multiply(BigDecimal.valueOf(events), PRECISION);
+        }
+        BigDecimal series = q.pow(events, PRECISION).subtract(BigDecimal.ONE)
+                .divide(qMinusOne, PRECISION);
+        return lastGrowth.multiply(series, PRECISION);
+    }
+
+    /** Double-precision version of contributionFactor for the fast paths. */
+    static double contributionFactor(double monthlyMultiplier, int from, int to,
+                                     int interval, boolean contributeAtBeginning) {
+        int events = eventCount(from, to, interval);
+        if (events == 0) return 0.0;
+
+        int last = firstEventIndex(from, interval) + (events - 1) * interval;
+        int lastExponent = to - last - (contributeAtBeginning ? 0 : 1);
+        double lastGrowth = Math.pow(monthlyMultiplier, lastExponent);
+
+        double q = Math.pow(monthlyMultiplier, interval);
+        if (q == 1.0) return lastGrowth * events;
+        // expm1/log1p keep the series accurate when q is very close to 1
+        double series = Math.abs(q - 1.0) < 1e-3 && q > 0
+                ? Math.expm1(events * Math.log1p(q - 1.0)) / (q - 1.0)
+                : (Math.pow(q, events) - 1.0) / (q - 1.0);
+        return lastGrowth * series;
+    }
+
+    /**
+     * Balance after {@code months} months from month 0, in double precision.
+     */
+    static double endBalance(double startingAmount, double monthlyMultiplier, int months,
+                             double contributionPerEvent, int interval, boolean contributeAtBeginning) {
+        return startingAmount * Math.pow(monthlyMultiplier, months)
+                + contributionPerEvent * contributionFactor(monthlyMultiplier, 0, months, interval, contributeAtBeginning);
+    }
+
+    private static int firstEventIndex(int from, int interval) {
+        return ((from + interval - 1) / interval) * interval;
+    }
+}
@@ -0,0 +1,44 @@
+package com.investmentcalc;
+
+import java.util.stream.IntStream;
+
+/**
+ * Replays the contribution months and beginning/end-of-period timing of
+ * FinalInvestmentEngine against historical monthly returns.
+ *
+ * Every possible start month is evaluated as a rolling window of the given number of
+ * years. Windows run in parallel on the common ForkJoinPool and read the shared
+ * ReturnSeries directly by index, so the series is never copied per window.
+ */
+public class BacktestEngine {
+
+    public BacktestResult run(
+            ReturnSeries series,
+            int years,
+            double startingAmount,
+            double additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        if (years <= 0) throw new IllegalArgumentException("Years must be positive: " + years);
+
+        int months = years * 12;
+        int windows = Math.max(0, series.length() - months + 1);
+        double contributionPerEvent =
+                FinalInvestmentEngine.contributionPerEvent(additionalContribution, contributionsPerYear);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+
+        double[] endBalances = new double[windows];
+        IntStream.range(0, windows).parallel().forEach(start -> {
+            double balance = startingAmount;
+            for (int month = 0; month < months; month++) {
+                double growth = 1.0 + series.get(start + month) / 100.0;
+                double c = (month % interval == 0) ? contributionPerEvent : 0.0;
+                balance = contributeAtBeginning ? (balance + c) * growth : balance * growth + c;
+            }
+            endBalances[start] = balance;
+        });
+
+        return new BacktestResult(years, endBalances);
+    }
+}
@@ -0,0 +1,63 @@
+package com.investmentcalc;
+
+import java.util.Arrays;
+
+/**
+ * End balances of every rolling window of a backtest, indexed by start month,
+ * with the distribution of those outcomes.
+ */
+public class BacktestResult {
+    private final int years;
+    private final double[] endBalances;
+    private final double[] sorted;
+
+    public BacktestResult(int years, double[] endBalances) {
+        this.years = years;
+        this.endBalances = endBalances;
+        this.sorted = endBalances.clone();
+        Arrays.sort(this.sorted);
+    }
+
+    // Getters
+    public int getYears() { return years; }
+    public int getWindowCount() { return endBalances.length; }
+    /** End balance for the window starting at each month of the series (not copied). */
+    public double[] getEndBalances() { return endBalances; }
+
+    /** Nearest-rank percentile of the window outcomes. */
+    public double getPercentile(double percent) {
+        if (sorted.length == 0) throw new IllegalStateException("No complete window in the series");
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    public double getWorstEndBalance() { return getPercentile(0); }
+    public double getBestEndBalance() { return getPercentile(100); }
+
+    public double getMeanEndBalance() {
+        return Arrays.stream(endBalances).average().orElse(Double.NaN);
+    }
+
+    /** Start month of the worst outcome, or -1 when there are no windows. */
+    public int getWorstStartMonth() {
+        int worst = -1;
+        for (int i = 0; i < endBalances.length; i++) {
+            if (worst < 0 || endBalances[i] < endBalances[worst]) worst = i;
+        }
+        return worst;
+    }
+
+    /** Share of windows ending at or above the given balance. */
+    public double getShareAtLeast(double balance) {
+        if (sorted.length == 0) return 0.0;
+        // Lower bound: first index not below the balance, so duplicates of it all count
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < balance) lo = mid + 1;
+            else hi = mid;
+        }
+        return (double) (sorted.length - lo) / sorted.length;
+    }
+}
@@ -0,0 +1,87 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Balance at an arbitrary month without generating the schedule.
+ *
+ * The starting amount grows by m^k and the contributions made so far are summed with
+ * AnnuityMath.contributionFactor, honouring the annual (month 1) and quarterly (months
+ * 1, 4, 7, 10) contribution months and the beginning/end-of-period timing of
+ * FinalInvestmentEngine. m^k is computed by repeated squaring, so a query costs
+ * O(log k) multiplications whatever the month.
+ *
+ * Immutable and safe to share between threads.
+ */
+public class BalanceQuery {
+    private final BigDecimal startingAmount;
+    private final BigDecimal monthlyMultiplier;
+    private final BigDecimal contributionPerEvent;
+    private final int interval;
+    private final boolean contributeAtBeginning;
+
+    public BalanceQuery(BigDecimal startingAmount,
+                        BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+                        String compoundingFrequency,
+                        BigDecimal additionalContribution,
+                        int contributionsPerYear,
+                        boolean contributeAtBeginning) {
+        this(startingAmount, annualReturnRate, CompoundingFrequency.parse(compoundingFrequency),
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    public BalanceQuery(BigDecimal startingAmount,
+                        BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+                        CompoundingFrequency compoundingFrequency,
+                        BigDecimal additionalContribution,
+                        int contributionsPerYear,
+                        boolean contributeAtBeginning) {
+        this.startingAmount = startingAmount;
+        this.monthlyMultiplier = BigDecimal.valueOf(compoundingFrequency.monthlyMultiplier(annualReturnRate));
+        this.contributionPerEvent = FinalInvestmentEngine.contributionPerEvent(additionalContribution, contributionsPerYear);
+        this.interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+        this.contributeAtBeginning = contributeAtBeginning;
+    }
+
+    /**
+     * State of month {@code month} (one-based). Month 0 is the start of the schedule:
+     * its end balance is the starting amount.
+     */
+    public MonthBalance at(int month) {
+        if (month < 0) throw new IllegalArgumentException("Month must not be negative: " + month);
+
+        BigDecimal end = endBalance(month);
+        BigDecimal start = month == 0 ? startingAmount : endBalance(month - 1);
+        BigDecimal contributed = contributionsToDate(month);
+        BigDecimal thisMonth = month > 0 && (month - 1) % interval == 0 ? contributionPerEvent : BigDecimal.ZERO;
+
+        return new MonthBalance(
+            month,
+            scaled(start),
+            scaled(thisMonth),
+            scaled(end.subtract(start).subtract(thisMonth)),
+            scaled(end),
+            scaled(contributed),
+            scaled(end.subtract(contributed))
+        );
+    }
+
+    /** Unrounded balance after {@code months} months. */
+    BigDecimal endBalance(int months) {
+        return startingAmount
+            .multiply(monthlyMultiplier.pow(months, AnnuityMath.PRECISION))
+            .add(contributionPerEvent.multiply(AnnuityMath.contributionFactor(
+                monthlyMultiplier, 0, months, interval, contributeAtBeginning)));
+    }
+
+    /** Unrounded starting amount plus contributions made in the first {@code months} months. */
+    BigDecimal contributionsToDate(int months) {
+        return startingAmount.add(contributionPerEvent
+            .multiply(BigDecimal.valueOf(AnnuityMath.eventCount(0, months, interval))));
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value.setScale(10, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,184 @@
+package com.investmentcalc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates many scenarios across all cores.
+ *
+ * By default work runs on the common ForkJoinPool, split recursively until a slice is
+ * about a quarter of the batch's share per thread (batch size / (parallelism * 4)), so
+ * small batches of expensive scenarios still spread over every worker. A supplied
+ * ForkJoinPool is used the same way; any other ExecutorService receives the same number
+ * of contiguous slices. The engine must be safe to share between threads
+ * (FinalInvestmentEngine and DoubleInvestmentEngine are stateless).
+ */
+public class BatchCalculator {
+
+    /** Scenarios buffered per parallel step when consuming a stream. */
+    static final int STREAM_CHUNK_SIZE = 4096;
+
+    // Slices per worker thread, so uneven scenario costs still balance
+    private static final int SLICES_PER_THREAD = 4;
+
+    /**
+     * Receives each result as soon as it is computed. Called concurrently from worker
+     * threads and not in input order; use the index to place the result.
+     */
+    public interface ResultCallback {
+        void onResult(long index, Scenario scenario, InvestmentResult result);
+    }
+
+    private final InvestmentEngine engine;
+    private final ExecutorService executor; // null means the common ForkJoinPool
+    private final int leafSize; // 0 means sized from the batch and the parallelism
+
+    public BatchCalculator(InvestmentEngine engine) {
+        this(engine, null);
+    }
+
+    public BatchCalculator(InvestmentEngine engine, ExecutorService executor) {
+        this(engine, executor, 0);
+    }
+
+    /**
+     * With a fixed number of scenarios per leaf task; 1 forks every scenario on its own,
+     * for small batches of costly scenarios such as a portfolio's accounts.
+     */
+    BatchCalculator(InvestmentEngine engine, ExecutorService executor, int leafSize) {
+        if (leafSize < 0) throw new IllegalArgumentException("Leaf size must not be negative: " + leafSize);
+        this.engine = engine;
+        this.executor = executor;
+        this.leafSize = leafSize;
+    }
+
+    /**
+     * Evaluate every scenario and return the results in input order.
+     */
+    public BatchResult calculateAll(List<Scenario> scenarios) {
+        long startNanos = System.nanoTime();
+        InvestmentResult[] results = new InvestmentResult[scenarios.size()];
+
+        evaluate(scenarios, 0, (index, scenario, result) -> results[(int) index] = result);
+
+        BatchStats stats = new BatchStats(results.length, System.nanoTime() - startNanos, parallelism());
+        return new BatchResult(Arrays.asList(results), stats);
+    }
+
+    /**
+     * Evaluate a stream of scenarios, handing each result to the callback as it completes.
+     * The stream is consumed in chunks of STREAM_CHUNK_SIZE, so memory stays bounded
+     * however many scenarios it supplies. Returns once every callback has run.
+     */
+    public BatchStats calculateEach(Stream<Scenario> scenarios, ResultCallback callback) {
+        long startNanos = System.nanoTime();
+        long offset = 0;
+
+        Iterator<Scenario> it = scenarios.iterator();
+        List<Scenario> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        while (it.hasNext()) {
+            chunk.add(it.next());
+            if (chunk.size() == STREAM_CHUNK_SIZE || !it.hasNext()) {
+                evaluate(chunk, offset, callback);
+                offset += chunk.size();
+                chunk.clear();
+            }
+        }
+
+        return new BatchStats(offset, System.nanoTime() - startNanos, parallelism());
+    }
+
+    private void evaluate(List<Scenario> scenarios, long offset, ResultCallback callback) {
+        if (scenarios.isEmpty()) return;
+        int sliceSize = sliceSize(scenarios.size());
+
+        if (executor == null || executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (executor == null) ? ForkJoinPool.commonPool() : (ForkJoinPool) executor;
+            pool.invoke(new EvaluateTask(scenarios, 0, scenarios.size(), offset, sliceSize, callback));
+            return;
+        }
+
+        int slices = (scenarios.size() + sliceSize - 1) / sliceSize;
+        List<Future<?>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < scenarios.size(); from += sliceSize) {
+            int start = from;
+            int end = Math.min(scenarios.size(), from + sliceSize);
+            futures.add(executor.submit(() -> evaluateRange(scenarios, start, end, offset, callback)));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Batch calculation interrupted", e);
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new IllegalStateException("Batch calculation failed", cause);
+            }
+        }
+    }
+
+    private void evaluateRange(List<Scenario> scenarios, int from, int to, long offset, ResultCallback callback) {
+        for (int i = from; i < to; i++) {
+            Scenario scenario = scenarios.get(i);
+            callback.onResult(offset + i, scenario, scenario.calculate(engine));
+        }
+    }
+
+    // Scenarios per leaf task or executor slice
+    int sliceSize(int scenarioCount) {
+        if (leafSize > 0) return leafSize;
+        return Math.max(1, scenarioCount / (parallelism() * SLICES_PER_THREAD));
+    }
+
+    private int parallelism() {
+        if (executor == null) return ForkJoinPool.getCommonPoolParallelism();
+        if (executor instanceof ForkJoinPool) return ((ForkJoinPool) executor).getParallelism();
+        if (executor instanceof ThreadPoolExecutor) return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    // Recursively halves the index range until it is no larger than the slice size
+    private final class EvaluateTask extends RecursiveAction {
+        private final List<Scenario> scenarios;
+        private final int from;
+        private final int to;
+        private final long offset;
+        private final int sliceSize;
+        private final ResultCallback callback;
+
+        EvaluateTask(List<Scenario> scenarios, int from, int to, long offset, int sliceSize, ResultCallback callback) {
+            this.scenarios = scenarios;
+            this.from = from;
+            this.to = to;
+            this.offset = offset;
+            this.sliceSize = sliceSize;
+            this.callback = callback;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sliceSize) {
+                evaluateRange(scenarios, from, to, offset, callback);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(scenarios, from, mid, offset, sliceSize, callback),
+                      new EvaluateTask(scenarios, mid, to, offset, sliceSize, callback));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.investmentcalc;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless batch entry point: reads scenarios as CSV and writes one result row per
+ * scenario, without starting Swing (no java.awt or javax.swing class is loaded).
+ *
+ * <pre>
+ * java -cp investment-calculator-1.0.0.jar com.investmentcalc.BatchCli [--input FILE] [--output FILE] [--threads N]
+ * </pre>
+ *
+ * Input and output default to stdin and stdout ("-" also means those). Each input line
+ * holds startingAmount, years, annualReturnRate, compoundingFrequency,
+ * additionalContribution, contributionsPerYear and contributeAtBeginning (true/false or
+ * beginning/end); an optional header line and blank lines are skipped. Each output row
+ * repeats the inputs followed by end balance, total contributions and total interest,
+ * rounded to cents, from FinalInvestmentEngine.calculateSummary.
+ *
+ * Lines are read in chunks of CHUNK_SIZE that are computed in parallel and written in
+ * input order as soon as they are done. At most twice as many chunks as threads are
+ * in flight, so memory stays bounded whatever the input size. An invalid line stops
+ * the run with its line number on stderr and exit status 1.
+ */
+public final class BatchCli {
+
+    static final int CHUNK_SIZE = 1024;
+    static final String HEADER = "startingAmount,years,annualReturnRate,compoundingFrequency,"
+        + "additionalContribution,contributionsPerYear,contributeAtBeginning,endBalance,totalContributions,totalInterest";
+
+    private BatchCli() {}
+
+    public static void main(String[] args) {
+        String input = "-";
+        String output = "-";
+        int threads = Runtime.getRuntime().availableProcessors();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--input":
+                        input = args[++i];
+                        break;
+                    case "--output":
+                        output = args[++i];
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+            if (threads <= 0) throw new IllegalArgumentException("Threads must be positive: " + threads);
+        } catch (RuntimeException e) {
+            System.err.println(e instanceof ArrayIndexOutOfBoundsException ? "Missing value for " + args[args.length - 1] : e.getMessage());
+            System.err.println("Usage: BatchCli [--input FILE] [--output FILE] [--threads N]");
+            System.exit(2);
+            return;
+        }
+
+        try (Reader reader = "-".equals(input)
+                 ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                 : Files.newBufferedReader(Paths.get(input), StandardCharsets.UTF_8);
+             Writer writer = "-".equals(output)
+                 ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                 : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            run(reader, writer, threads);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Process every scenario from {@code in} and write the header and result rows to
+     * {@code out}. Returns the number of scenarios.
+     *
+     * @throws IllegalArgumentException for an invalid line, naming its line number
+     */
+    static long run(Reader in, Writer out, int threads) throws IOException {
+        BufferedReader reader = in instanceof BufferedReader ? (BufferedReader) in : new BufferedReader(in);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "batch-cli");
+            t.setDaemon(true);
+            return t;
+        });
+        ArrayDeque<Future<String>> inFlight = new ArrayDeque<>();
+        int maxInFlight = threads * 2;
+        long count = 0;
+        long lineNumber = 0;
+
+        try {
+            out.write(HEADER);
+            out.write('\n');
+
+            List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+            long chunkFirstLine = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                chunk.add(line);
+                if (chunk.size() == CHUNK_SIZE) {
+                    submit(executor, inFlight, chunk, chunkFirstLine);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    chunkFirstLine = lineNumber + 1;
+                    while (inFlight.size() >= maxInFlight) {
+                        count += write(out, await(inFlight.poll()));
+                    }
+                }
+            }
+            submit(executor, inFlight, chunk, chunkFirstLine);
+            while (!inFlight.isEmpty()) {
+                count += write(out, await(inFlight.poll()));
+            }
+            out.flush();
+            return count;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void submit(ExecutorService executor, ArrayDeque<Future<String>> inFlight,
+                               List<String> lines, long firstLine) {
+        if (!lines.isEmpty()) {
+            inFlight.add(executor.submit(() -> formatChunk(lines, firstLine)));
+        }
+    }
+
+    // Write a formatted chunk and return its number of rows
+    private static long write(Writer out, String rows) throws IOException {
+        out.write(rows);
+        long count = 0;
+        for (int i = 0; i < rows.length(); i++) {
+            if (rows.charAt(i) == '\n') count++;
+        }
+        return count;
+    }
+
+    // Compute and format every scenario of a chunk; runs on a worker thread
+    private static String formatChunk(List<String> lines, long firstLine) {
+        FinalInvestmentEngine engine = new FinalInvestmentEngine();
+        StringBuilder sb = new StringBuilder(lines.size() * 120);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            long lineNumber = firstLine + i;
+            if (skip(line, lineNumber == 1)) continue;
+
+            String[] fields = line.split(",", -1);
+            try {
+                if (fields.length != 7) {
+                    throw new IllegalArgumentException("expected 7 fields but found " + fields.length);
+                }
+                BigDecimal startingAmount = new BigDecimal(fields[0].trim());
+                int years = Integer.parseInt(fields[1].trim());
+                BigDecimal rate = new BigDecimal(fields[2].trim());
+                CompoundingFrequency frequency = CompoundingFrequency.parse(fields[3].trim());
+                BigDecimal contribution = new BigDecimal(fields[4].trim());
+                int perYear = Integer.parseInt(fields[5].trim());
+                boolean atBeginning = parseTiming(fields[6].trim());
+                if (years < 0) throw new IllegalArgumentException("years must not be negative");
+
+                InvestmentResult result = engine.calculateSummary(startingAmount, years, rate, frequency.getLabel(),
+                    contribution, perYear, atBeginning);
+                sb.append(startingAmount.toPlainString()).append(',')
+                  .append(years).append(',')
+                  .append(rate.toPlainString()).append(',')
+                  .append(frequency.getLabel()).append(',')
+                  .append(contribution.toPlainString()).append(',')
+                  .append(perYear).append(',')
+                  .append(atBeginning).append(',')
+                  .append(cents(result.getEndBalance())).append(',')
+                  .append(cents(result.getTotalContributions())).append(',')
+                  .append(cents(result.getTotalInterest())).append('\n');
+            } catch (IllegalArgumentException e) { // includes NumberFormatException
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage() + ": " + line, e);
+            }
+        }
+        return sb.toString();
+    }
+
+    // Blank lines, and a first line that does not start with a number (a header)
+    private static boolean skip(String line, boolean firstLine) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) return true;
+        char c = trimmed.charAt(0);
+        return firstLine && !(Character.isDigit(c) || c == '-' || c == '.' || c == '+');
+    }
+
+    // Also used for CalculatorServer query parameters
+    static boolean parseTiming(String value) {
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "beginning":
+                return true;
+            case "false":
+            case "end":
+                return false;
+            default:
+                throw new IllegalArgumentException("contributeAtBeginning must be true/false or beginning/end, not '" + value + "'");
+        }
+    }
+
+    private static String cents(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String await(Future<String> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.investmentcalc;
+
+/**
+ * Advances many independent balances by one month in lockstep: lane i holds one
+ * scenario (a rate in a sweep, a path in a Monte Carlo block) with its own monthly
+ * multiplier. Implementations must give bit-identical results to ScalarBatchKernel,
+ * i.e. a separate multiply and add per lane with no fused multiply-add.
+ *
+ * Obtain one from BatchKernels. Implementations are stateless and thread-safe.
+ */
+interface BatchKernel {
+
+    /** balances[i] *= multipliers[i] for i < length. */
+    void grow(double[] balances, double[] multipliers, int length);
+
+    /**
+     * One month with the same contribution in every lane: (b + c) * m when
+     * contributing at the beginning of the period, otherwise b * m + c.
+     */
+    void step(double[] balances, double[] multipliers, double contribution,
+              boolean contributeAtBeginning, int length);
+
+    /** Doubles processed per instruction; 1 for the scalar loop. */
+    int lanes();
+
+    /** Short description for logs and benchmarks, e.g. "vector 256-bit". */
+    String name();
+}
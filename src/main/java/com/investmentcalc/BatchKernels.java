@@ -0,0 +1,50 @@
+package com.investmentcalc;
+
+/**
+ * Chooses a BatchKernel.
+ *
+ * The SIMD kernel (VectorBatchKernel, built on jdk.incubator.vector) only exists in the
+ * Java 17+ part of the multi-release jar (src/main/java17) and is loaded reflectively,
+ * so the base code still compiles and runs on Java 11. It is opt-in: start the JVM (17+)
+ * with {@code --add-modules jdk.incubator.vector -Dinvestmentcalc.vector=true}, and
+ * optionally {@code -Dinvestmentcalc.vector.bits=128|256|512} to narrow the lanes. In
+ * every other case the scalar loop is used.
+ *
+ * The scalar loop stays the default because C2 already auto-vectorizes it; see
+ * BatchKernelBenchmark (in src/test) to compare both on a given machine.
+ */
+final class BatchKernels {
+
+    static final String VECTOR_KERNEL_CLASS = "com.investmentcalc.VectorBatchKernel";
+    static final String VECTOR_PROPERTY = "investmentcalc.vector";
+    static final String VECTOR_BITS_PROPERTY = "investmentcalc.vector.bits";
+
+    private static final BatchKernel VECTOR = loadVector();
+
+    private BatchKernels() {}
+
+    /** The vector kernel when available, otherwise the scalar loop. */
+    static BatchKernel preferred() {
+        return VECTOR != null ? VECTOR : scalar();
+    }
+
+    static BatchKernel scalar() {
+        return ScalarBatchKernel.INSTANCE;
+    }
+
+    /** The vector kernel, or null when the Vector API is unavailable or not enabled. */
+    static BatchKernel vector() {
+        return VECTOR;
+    }
+
+    private static BatchKernel loadVector() {
+        if (!Boolean.getBoolean(VECTOR_PROPERTY)) return null;
+        try {
+            Class<?> type = Class.forName(VECTOR_KERNEL_CLASS);
+            return (BatchKernel) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Class not on this release, module not added, or width not supported
+            return null;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.investmentcalc;
+
+import java.util.List;
+
+/**
+ * Results of a batch run in input order, together with its throughput.
+ */
+public class BatchResult {
+    private final List<InvestmentResult> results;
+    private final BatchStats stats;
+
+    public BatchResult(List<InvestmentResult> results, BatchStats stats) {
+        this.results = results;
+        this.stats = stats;
+    }
+
+    // Getters
+    public List<InvestmentResult> getResults() { return results; }
+    public BatchStats getStats() { return stats; }
+}
@@ -0,0 +1,33 @@
+package com.investmentcalc;
+
+/**
+ * Throughput of one batch run.
+ */
+public class BatchStats {
+    private final long scenarioCount;
+    private final long elapsedNanos;
+    private final int parallelism;
+
+    public BatchStats(long scenarioCount, long elapsedNanos, int parallelism) {
+        this.scenarioCount = scenarioCount;
+        this.elapsedNanos = elapsedNanos;
+        this.parallelism = parallelism;
+    }
+
+    // Getters
+    public long getScenarioCount() { return scenarioCount; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public int getParallelism() { return parallelism; }
+
+    public double getElapsedSeconds() { return elapsedNanos / 1_000_000_000.0; }
+
+    public double getScenariosPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : scenarioCount / getElapsedSeconds();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d scenarios in %.3f s (%,.0f scenarios/s on %d threads)",
+            scenarioCount, getElapsedSeconds(), getScenariosPerSecond(), parallelism);
+    }
+}
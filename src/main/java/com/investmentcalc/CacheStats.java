@@ -0,0 +1,39 @@
+package com.investmentcalc;
+
+/**
+ * Snapshot of a CachingInvestmentEngine's counters.
+ */
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int entryCount;
+    private final long totalWeight;
+
+    public CacheStats(long hitCount, long missCount, long evictionCount, int entryCount, long totalWeight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount = entryCount;
+        this.totalWeight = totalWeight;
+    }
+
+    // Getters
+    public long getHitCount() { return hitCount; }
+    /** Lookups that computed the result or waited for another thread computing it. */
+    public long getMissCount() { return missCount; }
+    public long getEvictionCount() { return evictionCount; }
+    public int getEntryCount() { return entryCount; }
+    public long getTotalWeight() { return totalWeight; }
+
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d hits, %d misses (%.1f%% hit rate), %d evictions, %d entries, weight %d",
+            hitCount, missCount, getHitRate() * 100, evictionCount, entryCount, totalWeight);
+    }
+}
@@ -0,0 +1,173 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * InvestmentEngine that remembers recent results of another engine.
+ *
+ * Entries are keyed by Scenario.normalized(), so 7 and 7.00 share an entry; a hit
+ * returns the result computed for the first caller, including its input scales.
+ * Results are shared between callers and must be treated as read-only.
+ *
+ * Each entry weighs its monthly plus yearly row count (at least 1), and least
+ * recently used entries are evicted once the total exceeds maxWeight. A result
+ * heavier than maxWeight on its own is returned but not kept.
+ *
+ * Safe for concurrent use. Concurrent misses on the same key compute it once: the
+ * first caller runs the delegate and the others wait for its result. The delegate
+ * runs outside the cache lock, so different keys compute in parallel.
+ */
+public class CachingInvestmentEngine implements InvestmentEngine {
+
+    /** Default total weight: roughly a hundred 70-year schedules. */
+    public static final long DEFAULT_MAX_WEIGHT = 100_000;
+
+    private final InvestmentEngine delegate;
+    private final long maxWeight;
+
+    // Guarded by lock
+    private final Object lock = new Object();
+    private final LinkedHashMap<Scenario, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Scenario, FutureTask<InvestmentResult>> loading = new HashMap<>();
+    private long totalWeight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public CachingInvestmentEngine(InvestmentEngine delegate) {
+        this(delegate, DEFAULT_MAX_WEIGHT);
+    }
+
+    public CachingInvestmentEngine(InvestmentEngine delegate, long maxWeight) {
+        if (maxWeight <= 0) throw new IllegalArgumentException("Maximum weight must be positive: " + maxWeight);
+        this.delegate = delegate;
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    public InvestmentResult calculateInvestment(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        Scenario scenario = new Scenario(startingAmount, years, annualReturnRate, compoundingFrequency,
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+        return get(scenario);
+    }
+
+    /** Cached result for the scenario, computing it with the delegate on a miss. */
+    public InvestmentResult get(Scenario scenario) {
+        Scenario key = scenario.normalized();
+        FutureTask<InvestmentResult> task;
+        boolean owner = false;
+
+        synchronized (lock) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                hitCount++;
+                return entry.result;
+            }
+            missCount++;
+            task = loading.get(key);
+            if (task == null) {
+                task = new FutureTask<>(() -> scenario.calculate(delegate));
+                loading.put(key, task);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            task.run();
+            synchronized (lock) {
+                loading.remove(key);
+                if (!task.isCancelled()) {
+                    try {
+                        store(key, task.get());
+                    } catch (InterruptedException | ExecutionException e) {
+                        // Failed loads are not cached; the exception is rethrown below
+                    }
+                }
+            }
+        }
+        return await(task);
+    }
+
+    /** Drop every cached result. Loads in progress still complete and are stored. */
+    public void invalidateAll() {
+        synchronized (lock) {
+            entries.clear();
+            totalWeight = 0;
+        }
+    }
+
+    public CacheStats getStats() {
+        synchronized (lock) {
+            return new CacheStats(hitCount, missCount, evictionCount, entries.size(), totalWeight);
+        }
+    }
+
+    public long getMaxWeight() { return maxWeight; }
+
+    static long weigh(InvestmentResult result) {
+        return Math.max(1L, (long) result.getMonthlyRowCount() + result.getYearlyRowCount());
+    }
+
+    // Caller holds lock
+    private void store(Scenario key, InvestmentResult result) {
+        long weight = weigh(result);
+        if (weight > maxWeight) return;
+
+        Entry previous = entries.put(key, new Entry(result, weight));
+        if (previous != null) totalWeight -= previous.weight;
+        totalWeight += weight;
+
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (totalWeight > maxWeight && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            eldest.remove();
+            totalWeight -= evicted.weight;
+            evictionCount++;
+        }
+    }
+
+    private static InvestmentResult await(FutureTask<InvestmentResult> task) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    // Keep waiting so the shared load is not abandoned halfway; restore the flag after
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    if (cause instanceof Error) throw (Error) cause;
+                    throw new IllegalStateException("Calculation failed", cause);
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Entry {
+        final InvestmentResult result;
+        final long weight;
+
+        Entry(InvestmentResult result, long weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+}
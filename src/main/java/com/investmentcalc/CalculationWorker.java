@@ -0,0 +1,61 @@
+package com.investmentcalc;
+
+import javax.swing.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * SwingWorker that runs one calculation request off the Event Dispatch Thread.
+ * Each request carries the generation it was started for; its result or error is
+ * delivered on the EDT only if it was not cancelled and that generation is still the
+ * current one, so a superseded request is never painted even when it finishes last.
+ * Cancelling interrupts the worker thread, which the task may check to stop early.
+ */
+public class CalculationWorker<T> extends SwingWorker<T, Void> {
+    private final long generation;
+    private final LongSupplier currentGeneration;
+    private final Callable<T> task;
+    private final Consumer<T> onResult;
+    private final Consumer<Exception> onError;
+
+    public CalculationWorker(long generation, LongSupplier currentGeneration, Callable<T> task,
+                             Consumer<T> onResult, Consumer<Exception> onError) {
+        this.generation = generation;
+        this.currentGeneration = currentGeneration;
+        this.task = task;
+        this.onResult = onResult;
+        this.onError = onError;
+    }
+
+    @Override
+    protected T doInBackground() throws Exception {
+        return task.call();
+    }
+
+    @Override
+    protected void done() {
+        if (!isCurrent()) return;
+        T value;
+        try {
+            value = get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            onError.accept(cause instanceof Exception ? (Exception) cause : e);
+            return;
+        }
+        onResult.accept(value);
+    }
+
+    /** Whether this request is still wanted: not cancelled and not superseded. */
+    public boolean isCurrent() {
+        return !isCancelled() && generation == currentGeneration.getAsLong();
+    }
+
+    // Getters
+    public long getGeneration() { return generation; }
+}
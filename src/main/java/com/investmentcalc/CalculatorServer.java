@@ -0,0 +1,396 @@
+package com.investmentcalc;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional embedded JSON service on the JDK's com.sun.net.httpserver, for tools that
+ * want numbers without the GUI.
+ *
+ * <pre>
+ * java -cp investment-calculator-1.0.0.jar com.investmentcalc.CalculatorServer [--port 8080]
+ * </pre>
+ *
+ * All endpoints are GET and take the scenario as query parameters: startingAmount,
+ * years and rate (percent) are required; frequency (default Monthly), contribution
+ * (annual, default 0), contributionsPerYear (default 12) and atBeginning (true/false or
+ * beginning/end, default false) are optional. Amounts are rounded to cents.
+ * <ul>
+ * <li>/calculate: calculateInvestment totals plus the yearly schedule</li>
+ * <li>/summary: calculateSummary totals only, constant cost per request</li>
+ * <li>/schedule: the monthly schedule (or yearly with period=yearly), streamed from
+ *     calculateStreaming with chunked encoding, never held in memory</li>
+ * <li>/stats: request count and latency percentiles in microseconds</li>
+ * </ul>
+ * Invalid parameters get a 400 with {"error": "..."}.
+ *
+ * Handlers run on virtual threads when the JVM offers them (Java 21+, looked up
+ * reflectively so the code still builds for Java 11), otherwise on a bounded pool of
+ * twice the available processors whose overflow runs on the accepting thread.
+ *
+ * Without TCP_NODELAY each small response waits on Nagle plus delayed ACK (about 40 ms),
+ * capping throughput at a few hundred requests a second. The JDK only offers that as
+ * the JVM-wide property sun.net.httpserver.nodelay, which affects every HttpServer in
+ * the process, so the constructor leaves it alone: main() sets it, and applications
+ * embedding the server should start the JVM with -Dsun.net.httpserver.nodelay=true.
+ */
+public class CalculatorServer {
+
+    /** JVM-wide JDK HttpServer switch for TCP_NODELAY, read once when the first server is created. */
+    static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    /** Largest horizon accepted, so one request cannot ask for an unbounded schedule. */
+    static final int MAX_YEARS = 1000;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+    private final LatencyRecorder latencies = new LatencyRecorder();
+    private final FinalInvestmentEngine engine = new FinalInvestmentEngine();
+
+    /** Bind to the given port on all interfaces; 0 picks a free port. */
+    public CalculatorServer(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual : newBoundedPool();
+        server.setExecutor(executor);
+
+        server.createContext("/calculate", timed(this::calculate));
+        server.createContext("/summary", timed(this::summary));
+        server.createContext("/schedule", timed(this::schedule));
+        server.createContext("/stats", this::stats);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = 8080;
+        if (args.length == 2 && "--port".equals(args[0])) {
+            port = Integer.parseInt(args[1]);
+        } else if (args.length != 0) {
+            System.err.println("Usage: CalculatorServer [--port N]");
+            System.exit(2);
+        }
+        // Standalone launch owns the JVM, so it may switch on TCP_NODELAY for every HttpServer
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        CalculatorServer server = new CalculatorServer(port);
+        server.start();
+        System.out.println("Listening on port " + server.getPort()
+            + (server.isUsingVirtualThreads() ? " (virtual threads)" : " (thread pool)"));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /** Stop accepting requests, wait up to delaySeconds for open exchanges, then release the threads. */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /** Median, 90th, 99th percentile and maximum latency in microseconds over recent requests. */
+    public long[] getLatencyPercentilesMicros() {
+        long[] nanos = latencies.percentiles(50, 90, 99, 100);
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] /= 1000;
+        }
+        return nanos;
+    }
+
+    public long getRequestCount() {
+        return latencies.getCount();
+    }
+
+    // Endpoints
+
+    private void calculate(HttpExchange exchange, ScenarioParams p) throws IOException {
+        InvestmentResult result = engine.calculateInvestment(p.startingAmount, p.years, p.rate, p.frequency,
+            p.contribution, p.contributionsPerYear, p.atBeginning);
+        try (Writer out = jsonBody(exchange, 200, -1)) {
+            out.write('{');
+            writeTotals(out, result);
+            out.write(",\"yearly\":[");
+            Iterator<YearlyData> rows = result.getYearlyData().iterator();
+            while (rows.hasNext()) {
+                writeYear(out, rows.next());
+                if (rows.hasNext()) out.write(',');
+            }
+            out.write("]}");
+        }
+    }
+
+    private void summary(HttpExchange exchange, ScenarioParams p) throws IOException {
+        InvestmentResult result = engine.calculateSummary(p.startingAmount, p.years, p.rate, p.frequency.getLabel(),
+            p.contribution, p.contributionsPerYear, p.atBeginning);
+        try (Writer out = jsonBody(exchange, 200, -1)) {
+            out.write('{');
+            writeTotals(out, result);
+            out.write('}');
+        }
+    }
+
+    private void schedule(HttpExchange exchange, ScenarioParams p) throws IOException {
+        boolean yearly = "yearly".equals(p.period);
+        if (!yearly && !"monthly".equals(p.period)) {
+            throw new IllegalArgumentException("period must be monthly or yearly, not '" + p.period + "'");
+        }
+        InvestmentResult result = engine.calculateStreaming(p.startingAmount, p.years, p.rate, p.frequency.getLabel(),
+            p.contribution, p.contributionsPerYear, p.atBeginning);
+
+        // Length 0: chunked, so rows go out as they are computed
+        try (Writer out = jsonBody(exchange, 200, 0)) {
+            out.write('[');
+            boolean[] first = {true};
+            if (yearly) {
+                result.yearlyStream().forEach(row -> write(out, first, () -> writeYear(out, row)));
+            } else {
+                result.monthlyStream().forEach(row -> write(out, first, () -> writeMonth(out, row)));
+            }
+            out.write(']');
+        }
+    }
+
+    private void stats(HttpExchange exchange) throws IOException {
+        try {
+            long[] micros = getLatencyPercentilesMicros();
+            try (Writer out = jsonBody(exchange, 200, -1)) {
+                out.write("{\"requests\":" + getRequestCount()
+                    + ",\"virtualThreads\":" + virtualThreads
+                    + ",\"latencyMicros\":{\"p50\":" + micros[0] + ",\"p90\":" + micros[1]
+                    + ",\"p99\":" + micros[2] + ",\"max\":" + micros[3] + "}}");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Plumbing
+
+    private interface ScenarioHandler {
+        void handle(HttpExchange exchange, ScenarioParams params) throws IOException;
+    }
+
+    private interface RowWriter {
+        void write() throws IOException;
+    }
+
+    // Parse the query, run the endpoint, map bad input to 400 and record the latency
+    private HttpHandler timed(ScenarioHandler handler) {
+        return exchange -> {
+            long start = System.nanoTime();
+            try {
+                if (!"GET".equals(exchange.getRequestMethod())) {
+                    error(exchange, 405, "only GET is supported");
+                    return;
+                }
+                ScenarioParams params;
+                try {
+                    params = ScenarioParams.parse(exchange.getRequestURI().getRawQuery());
+                } catch (IllegalArgumentException e) { // includes NumberFormatException
+                    error(exchange, 400, e.getMessage());
+                    return;
+                }
+                try {
+                    handler.handle(exchange, params);
+                } catch (IllegalArgumentException e) {
+                    if (exchange.getResponseCode() != -1) throw e; // headers already sent
+                    error(exchange, 400, e.getMessage());
+                }
+            } finally {
+                exchange.close();
+                latencies.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private static Writer jsonBody(HttpExchange exchange, int status, long length) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if (length < 0) {
+            // Small bodies: buffer so a Content-Length can be sent
+            return new BufferedJson(exchange, status);
+        }
+        exchange.sendResponseHeaders(status, length);
+        OutputStream body = exchange.getResponseBody();
+        return new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), 8192);
+    }
+
+    private static void error(HttpExchange exchange, int status, String message) throws IOException {
+        try (Writer out = jsonBody(exchange, status, -1)) {
+            out.write("{\"error\":\"" + escape(message) + "\"}");
+        }
+    }
+
+    private static void write(Writer out, boolean[] first, RowWriter row) {
+        try {
+            if (!first[0]) out.write(',');
+            first[0] = false;
+            row.write();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeTotals(Writer out, InvestmentResult result) throws IOException {
+        out.write("\"endBalance\":" + cents(result.getEndBalance())
+            + ",\"totalContributions\":" + cents(result.getTotalContributions())
+            + ",\"totalInterest\":" + cents(result.getTotalInterest()));
+    }
+
+    private static void writeYear(Writer out, YearlyData row) throws IOException {
+        out.write("{\"year\":" + row.getYear()
+            + ",\"startBalance\":" + cents(row.getStartBalance())
+            + ",\"contributions\":" + cents(row.getContributions())
+            + ",\"interest\":" + cents(row.getInterestEarned())
+            + ",\"endBalance\":" + cents(row.getEndBalance()) + "}");
+    }
+
+    private static void writeMonth(Writer out, MonthlyData row) throws IOException {
+        out.write("{\"month\":\"" + row.getMonth()
+            + "\",\"startBalance\":" + cents(row.getStartBalance())
+            + ",\"contributions\":" + cents(row.getContributions())
+            + ",\"interest\":" + cents(row.getInterestEarned())
+            + ",\"endBalance\":" + cents(row.getEndBalance()) + "}");
+    }
+
+    private static String cents(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String escape(String s) {
+        if (s == null) return "";
+        StringBuilder sb = new StringBuilder(s.length());
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') sb.append('\\').append(c);
+            else if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+            else sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() where available; null on older JVMs
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null; // absent, or a preview feature that is not enabled
+        }
+    }
+
+    private static ExecutorService newBoundedPool() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(threads * 64), r -> {
+                Thread t = new Thread(r, "calculator-http");
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+        return pool;
+    }
+
+    // Response body with Content-Length, sent on close
+    private static final class BufferedJson extends Writer {
+        private final HttpExchange exchange;
+        private final int status;
+        private final StringBuilder body = new StringBuilder(256);
+
+        BufferedJson(HttpExchange exchange, int status) {
+            this.exchange = exchange;
+            this.status = status;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            body.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() throws IOException {
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    // Query parameters of a scenario
+    private static final class ScenarioParams {
+        BigDecimal startingAmount;
+        int years;
+        BigDecimal rate;
+        CompoundingFrequency frequency = CompoundingFrequency.MONTHLY;
+        BigDecimal contribution = BigDecimal.ZERO;
+        int contributionsPerYear = 12;
+        boolean atBeginning;
+        String period = "monthly";
+
+        static ScenarioParams parse(String rawQuery) {
+            Map<String, String> query = new HashMap<>();
+            if (rawQuery != null) {
+                for (String pair : rawQuery.split("&")) {
+                    if (pair.isEmpty()) continue;
+                    int eq = pair.indexOf('=');
+                    String key = eq < 0 ? pair : pair.substring(0, eq);
+                    String value = eq < 0 ? "" : pair.substring(eq + 1);
+                    query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+                }
+            }
+
+            ScenarioParams p = new ScenarioParams();
+            p.startingAmount = new BigDecimal(required(query, "startingAmount"));
+            p.years = Integer.parseInt(required(query, "years"));
+            p.rate = new BigDecimal(required(query, "rate"));
+            if (p.years < 0 || p.years > MAX_YEARS) {
+                throw new IllegalArgumentException("years must be between 0 and " + MAX_YEARS);
+            }
+            if (query.containsKey("frequency")) p.frequency = CompoundingFrequency.parse(query.get("frequency"));
+            if (query.containsKey("contribution")) p.contribution = new BigDecimal(query.get("contribution"));
+            if (query.containsKey("contributionsPerYear")) {
+                p.contributionsPerYear = Integer.parseInt(query.get("contributionsPerYear"));
+            }
+            if (query.containsKey("atBeginning")) p.atBeginning = BatchCli.parseTiming(query.get("atBeginning"));
+            if (query.containsKey("period")) p.period = query.get("period");
+            return p;
+        }
+
+        private static String required(Map<String, String> query, String name) {
+            String value = query.get(name);
+            if (value == null || value.isEmpty()) throw new IllegalArgumentException("missing parameter " + name);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Daily compounding on actual calendar days between two dates.
+ *
+ * Every day accrues annualRate / daysInYear, where daysInYear is 366 in leap years
+ * and 365 otherwise (actual/actual), so a leap year compounds 366 times instead of
+ * the 365 fixed periods of the "Daily" frequency.
+ *
+ * Month k of the schedule runs from startDate.plusMonths(k) to startDate.plusMonths(k + 1)
+ * and year k from startDate.plusYears(k); the last month and year may be partial when
+ * endDate does not fall on a boundary. Contributions follow the same rules as
+ * FinalInvestmentEngine (annual, quarterly, monthly or the even monthly spread) and are
+ * paid on the first day of the month (beginning of period) or after its last day
+ * (end of period; not paid for a partial last month).
+ *
+ * Contributions only happen at month boundaries, so days are never stepped one by
+ * one: a month grows by (1 + r/365)^a * (1 + r/366)^b for its a non-leap-year and
+ * b leap-year days.
+ */
+public class CalendarDailyEngine {
+
+    private static final BigDecimal DAYS_365 = BigDecimal.valueOf(365);
+    private static final BigDecimal DAYS_366 = BigDecimal.valueOf(366);
+
+    public CalendarResult calculate(
+            BigDecimal startingAmount,
+            LocalDate startDate,
+            LocalDate endDate,               // exclusive
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date " + endDate + " is before start date " + startDate);
+        }
+
+        BigDecimal rate = annualReturnRate.divide(BigDecimal.valueOf(100), AnnuityMath.PRECISION);
+        BigDecimal dailyFactor = BigDecimal.ONE.add(rate.divide(DAYS_365, AnnuityMath.PRECISION));
+        BigDecimal leapDailyFactor = BigDecimal.ONE.add(rate.divide(DAYS_366, AnnuityMath.PRECISION));
+        BigDecimal perEvent = FinalInvestmentEngine.contributionPerEvent(additionalContribution, contributionsPerYear);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+
+        List<CalendarPeriod> months = new ArrayList<>();
+        List<CalendarPeriod> years = new ArrayList<>();
+
+        BigDecimal balance = startingAmount;
+        BigDecimal totalContributions = startingAmount;
+        BigDecimal totalInterest = BigDecimal.ZERO;
+
+        BigDecimal yearStartBalance = startingAmount.setScale(10, RoundingMode.HALF_UP);
+        LocalDate yearStart = startDate;
+        BigDecimal yearContributions = BigDecimal.ZERO;
+        BigDecimal yearInterest = BigDecimal.ZERO;
+
+        LocalDate periodStart = startDate;
+        for (int k = 0; periodStart.isBefore(endDate); k++) {
+            LocalDate fullEnd = startDate.plusMonths(k + 1);
+            LocalDate periodEnd = fullEnd.isAfter(endDate) ? endDate : fullEnd;
+
+            BigDecimal monthStartBalance = balance;
+            BigDecimal contribution = (k % interval == 0) ? perEvent : BigDecimal.ZERO;
+            boolean paid = contributeAtBeginning || periodEnd.equals(fullEnd);
+            if (!paid) contribution = BigDecimal.ZERO;
+
+            if (contributeAtBeginning) balance = balance.add(contribution);
+            BigDecimal growth = growth(periodStart, periodEnd, dailyFactor, leapDailyFactor);
+            BigDecimal interest = balance.multiply(growth.subtract(BigDecimal.ONE), AnnuityMath.PRECISION);
+            balance = balance.add(interest);
+            if (!contributeAtBeginning) balance = balance.add(contribution);
+
+            BigDecimal displayedContrib = contribution.setScale(10, RoundingMode.HALF_UP);
+            BigDecimal displayedInterest = interest.setScale(10, RoundingMode.HALF_UP);
+            BigDecimal displayedEnd = balance.setScale(10, RoundingMode.HALF_UP);
+            months.add(new CalendarPeriod(periodStart, periodEnd, monthStartBalance.setScale(10, RoundingMode.HALF_UP),
+                displayedContrib, displayedInterest, displayedEnd));
+
+            totalContributions = totalContributions.add(displayedContrib);
+            totalInterest = totalInterest.add(displayedInterest);
+            yearContributions = yearContributions.add(displayedContrib);
+            yearInterest = yearInterest.add(displayedInterest);
+
+            if ((k + 1) % 12 == 0 || !periodEnd.isBefore(endDate)) {
+                years.add(new CalendarPeriod(yearStart, periodEnd, yearStartBalance,
+                    yearContributions, yearInterest, displayedEnd));
+                yearStart = periodEnd;
+                yearStartBalance = displayedEnd;
+                yearContributions = BigDecimal.ZERO;
+                yearInterest = BigDecimal.ZERO;
+            }
+            periodStart = periodEnd;
+        }
+
+        return new CalendarResult(
+            startDate,
+            endDate,
+            startingAmount,
+            annualReturnRate,
+            balance.setScale(10, RoundingMode.HALF_UP),
+            totalContributions,
+            totalInterest,
+            months,
+            years
+        );
+    }
+
+    /**
+     * Growth over the days from (inclusive) to to (exclusive), split at each January 1
+     * so every day uses the factor of its own year.
+     */
+    static BigDecimal growth(LocalDate from, LocalDate to, BigDecimal dailyFactor, BigDecimal leapDailyFactor) {
+        BigDecimal growth = BigDecimal.ONE;
+        LocalDate spanStart = from;
+        while (spanStart.isBefore(to)) {
+            LocalDate nextYear = LocalDate.of(spanStart.getYear() + 1, 1, 1);
+            LocalDate spanEnd = nextYear.isBefore(to) ? nextYear : to;
+            int days = (int) (spanEnd.toEpochDay() - spanStart.toEpochDay());
+            BigDecimal factor = spanStart.isLeapYear() ? leapDailyFactor : dailyFactor;
+            growth = growth.multiply(factor.pow(days, AnnuityMath.PRECISION), AnnuityMath.PRECISION);
+            spanStart = spanEnd;
+        }
+        return growth;
+    }
+}
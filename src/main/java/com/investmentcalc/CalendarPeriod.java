@@ -0,0 +1,37 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One month or year of a CalendarDailyEngine schedule, covering the calendar days
+ * from startDate (inclusive) to endDate (exclusive).
+ */
+public class CalendarPeriod {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final BigDecimal startBalance;
+    private final BigDecimal contributions;
+    private final BigDecimal interestEarned;
+    private final BigDecimal endBalance;
+
+    public CalendarPeriod(LocalDate startDate, LocalDate endDate, BigDecimal startBalance,
+                          BigDecimal contributions, BigDecimal interestEarned, BigDecimal endBalance) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startBalance = startBalance;
+        this.contributions = contributions;
+        this.interestEarned = interestEarned;
+        this.endBalance = endBalance;
+    }
+
+    // Getters
+    public LocalDate getStartDate() { return startDate; }
+    /** First day after the period. */
+    public LocalDate getEndDate() { return endDate; }
+    public long getDays() { return endDate.toEpochDay() - startDate.toEpochDay(); }
+    public BigDecimal getStartBalance() { return startBalance; }
+    public BigDecimal getContributions() { return contributions; }
+    public BigDecimal getInterestEarned() { return interestEarned; }
+    public BigDecimal getEndBalance() { return endBalance; }
+}
@@ -0,0 +1,67 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of CalendarDailyEngine: totals plus month and year rollups by calendar date.
+ */
+public class CalendarResult {
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final BigDecimal startingAmount;
+    private final BigDecimal annualReturnRate;
+    private final BigDecimal endBalance;
+    private final BigDecimal totalContributions;
+    private final BigDecimal totalInterest;
+    private final List<CalendarPeriod> months;
+    private final List<CalendarPeriod> years;
+
+    public CalendarResult(LocalDate startDate, LocalDate endDate, BigDecimal startingAmount,
+                          BigDecimal annualReturnRate, BigDecimal endBalance, BigDecimal totalContributions,
+                          BigDecimal totalInterest, List<CalendarPeriod> months, List<CalendarPeriod> years) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.startingAmount = startingAmount;
+        this.annualReturnRate = annualReturnRate;
+        this.endBalance = endBalance;
+        this.totalContributions = totalContributions;
+        this.totalInterest = totalInterest;
+        this.months = months;
+        this.years = years;
+    }
+
+    // Getters
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public long getTotalDays() { return endDate.toEpochDay() - startDate.toEpochDay(); }
+    public BigDecimal getStartingAmount() { return startingAmount; }
+    public BigDecimal getAnnualReturnRate() { return annualReturnRate; }
+    public BigDecimal getEndBalance() { return endBalance; }
+    public BigDecimal getTotalContributions() { return totalContributions; }
+    public BigDecimal getTotalInterest() { return totalInterest; }
+    public List<CalendarPeriod> getMonths() { return months; }
+    public List<CalendarPeriod> getYears() { return years; }
+
+    /**
+     * The same schedule as an InvestmentResult, for CsvExporter and the charts. Month
+     * rows are labelled with their start date; years are numbered from 1.
+     */
+    public InvestmentResult toInvestmentResult() {
+        List<MonthlyData> monthlyData = new ArrayList<>(months.size());
+        for (CalendarPeriod month : months) {
+            monthlyData.add(new MonthlyData(month.getStartDate().toString(), month.getStartBalance(),
+                month.getContributions(), month.getInterestEarned(), month.getEndBalance()));
+        }
+        List<YearlyData> yearlyData = new ArrayList<>(years.size());
+        for (int i = 0; i < years.size(); i++) {
+            CalendarPeriod year = years.get(i);
+            yearlyData.add(new YearlyData(i + 1, year.getStartBalance(),
+                year.getContributions(), year.getInterestEarned(), year.getEndBalance()));
+        }
+        return new InvestmentResult(startingAmount, years.size(), annualReturnRate, CompoundingFrequency.DAILY,
+            endBalance, totalContributions, totalInterest, monthlyData, yearlyData);
+    }
+}
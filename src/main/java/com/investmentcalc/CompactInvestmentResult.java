@@ -0,0 +1,122 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+/**
+ * Struct-of-arrays InvestmentResult.
+ *
+ * The schedule is held as four parallel double[] columns (see ScheduleColumns) instead
+ * of one MonthlyData object with a label and five BigDecimals per month. Month labels
+ * come from the row index (see MonthLabels), and MonthlyData/YearlyData objects are
+ * only created when a row is read through getMonthlyData(), getYearlyData() or the
+ * streams.
+ */
+public class CompactInvestmentResult extends InvestmentResult {
+    private final ScheduleColumns columns;
+
+    public CompactInvestmentResult(BigDecimal startingAmount,
+                                   int years,
+                                   BigDecimal annualReturnRate,
+                                   String compoundingFrequency,
+                                   ScheduleColumns columns) {
+        this(startingAmount, years, annualReturnRate, compoundingFrequency, columns, totals(startingAmount, columns));
+    }
+
+    private CompactInvestmentResult(BigDecimal startingAmount,
+                                    int years,
+                                    BigDecimal annualReturnRate,
+                                    String compoundingFrequency,
+                                    ScheduleColumns columns,
+                                    double[] totals) {
+        super(startingAmount,
+              years,
+              annualReturnRate,
+              compoundingFrequency,
+              BigDecimal.valueOf(totals[0]),
+              BigDecimal.valueOf(totals[1]),
+              BigDecimal.valueOf(totals[2]),
+              null,
+              null);
+        this.columns = columns;
+    }
+
+    // { endBalance, totalContributions, totalInterest } in one pass over the columns
+    private static double[] totals(BigDecimal startingAmount, ScheduleColumns columns) {
+        double[] contrib = columns.getContributions();
+        double[] interest = columns.getInterestEarned();
+        int months = columns.getMonthCount();
+
+        double totalContributions = startingAmount.doubleValue();
+        double totalInterest = 0.0;
+        for (int i = 0; i < months; i++) {
+            totalContributions += contrib[i];
+            totalInterest += interest[i];
+        }
+        double endBalance = months > 0 ? columns.getEndBalance()[months - 1] : startingAmount.doubleValue();
+        return new double[] { endBalance, totalContributions, totalInterest };
+    }
+
+    /** The underlying primitive columns (not copied). */
+    public ScheduleColumns getColumns() { return columns; }
+
+    @Override
+    public List<MonthlyData> getMonthlyData() { return new MonthlyView(); }
+
+    @Override
+    public List<YearlyData> getYearlyData() { return new YearlyView(); }
+
+    @Override
+    public Stream<MonthlyData> monthlyStream() { return getMonthlyData().stream(); }
+
+    @Override
+    public Stream<YearlyData> yearlyStream() { return getYearlyData().stream(); }
+
+    @Override
+    public int getMonthlyRowCount() { return columns.getMonthCount(); }
+
+    @Override
+    public int getYearlyRowCount() { return columns.getMonthCount() / 12; }
+
+    // Read-only view that builds each MonthlyData from the columns when it is requested
+    private final class MonthlyView extends AbstractList<MonthlyData> implements RandomAccess {
+        @Override
+        public MonthlyData get(int index) {
+            if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Month index: " + index);
+            return new MonthlyData(index,
+                BigDecimal.valueOf(columns.getStartBalance()[index]),
+                BigDecimal.valueOf(columns.getContributions()[index]),
+                BigDecimal.valueOf(columns.getInterestEarned()[index]),
+                BigDecimal.valueOf(columns.getEndBalance()[index]));
+        }
+
+        @Override
+        public int size() { return getMonthlyRowCount(); }
+    }
+
+    // Read-only view that rolls twelve monthly rows into a YearlyData when it is requested
+    private final class YearlyView extends AbstractList<YearlyData> implements RandomAccess {
+        @Override
+        public YearlyData get(int index) {
+            if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Year index: " + index);
+            int first = index * 12;
+            double yearContributions = 0.0;
+            double yearInterest = 0.0;
+            for (int i = first; i < first + 12; i++) {
+                yearContributions += columns.getContributions()[i];
+                yearInterest += columns.getInterestEarned()[i];
+            }
+            return new YearlyData(index + 1,
+                BigDecimal.valueOf(columns.getStartBalance()[first]),
+                BigDecimal.valueOf(yearContributions),
+                BigDecimal.valueOf(yearInterest),
+                BigDecimal.valueOf(columns.getEndBalance()[first + 11]));
+        }
+
+        @Override
+        public int size() { return getYearlyRowCount(); }
+    }
+}
@@ -0,0 +1,100 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * How often interest compounds per year.
+ *
+ * Each frequency also caches the monthly multiplier for the rates it has seen, so
+ * repeated scenarios at the same rate (common in batch runs and GUI recalculations)
+ * skip the BigDecimal divisions and Math.pow in FinalInvestmentEngine.monthlyMultiplier.
+ * Rates are keyed by numeric value, so 7 and 7.00 share an entry. Code that walks
+ * many distinct rates (solvers, sweeps) calls FinalInvestmentEngine.monthlyMultiplier
+ * directly instead, so it does not push the recurring rates out of the cache.
+ */
+public enum CompoundingFrequency {
+    ANNUALLY("Annually", 1),
+    QUARTERLY("Quarterly", 4),
+    MONTHLY("Monthly", 12),
+    WEEKLY("Weekly", 52),
+    DAILY("Daily", 365);
+
+    /** Rates cached per frequency; a quarter of them are dropped when it would grow past this. */
+    static final int MAX_CACHED_RATES = 4096;
+    private static final int EVICTED_WHEN_FULL = MAX_CACHED_RATES / 4;
+
+    private final String label;
+    private final int periodsPerYear;
+    private final ConcurrentHashMap<BigDecimal, Double> monthlyMultipliers = new ConcurrentHashMap<>();
+
+    CompoundingFrequency(String label, int periodsPerYear) {
+        this.label = label;
+        this.periodsPerYear = periodsPerYear;
+    }
+
+    /**
+     * Frequency for a display label such as "Weekly". Unknown labels compound monthly,
+     * as FinalInvestmentEngine always has.
+     */
+    public static CompoundingFrequency fromLabel(String label) {
+        if (label != null) {
+            for (CompoundingFrequency frequency : values()) {
+                if (frequency.label.equals(label)) return frequency;
+            }
+        }
+        return MONTHLY;
+    }
+
+    /**
+     * Strict, case-insensitive version of fromLabel for external input (BatchCli,
+     * CalculatorServer): unknown labels are rejected instead of compounding monthly.
+     */
+    public static CompoundingFrequency parse(String label) {
+        for (CompoundingFrequency frequency : values()) {
+            if (frequency.label.equalsIgnoreCase(label)) return frequency;
+        }
+        throw new IllegalArgumentException("unknown compounding frequency '" + label + "'");
+    }
+
+    // Getters
+    public String getLabel() { return label; }
+    public int getPeriodsPerYear() { return periodsPerYear; }
+
+    /**
+     * (1 + rate / periodsPerYear)^(periodsPerYear / 12), computed once per rate.
+     */
+    public double monthlyMultiplier(BigDecimal annualReturnRate) {
+        BigDecimal key = annualReturnRate.signum() == 0 ? BigDecimal.ZERO : annualReturnRate.stripTrailingZeros();
+        Double cached = monthlyMultipliers.get(key);
+        if (cached != null) return cached;
+
+        double multiplier = FinalInvestmentEngine.monthlyMultiplier(annualReturnRate, periodsPerYear);
+        if (monthlyMultipliers.size() >= MAX_CACHED_RATES) {
+            evictSome();
+        }
+        monthlyMultipliers.put(key, multiplier);
+        return multiplier;
+    }
+
+    // Drops part of the cache rather than all of it, so the rates in regular use mostly
+    // survive an overflow; ConcurrentHashMap iterators tolerate concurrent updates
+    private void evictSome() {
+        Iterator<BigDecimal> keys = monthlyMultipliers.keySet().iterator();
+        for (int i = 0; i < EVICTED_WHEN_FULL && keys.hasNext(); i++) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    int cachedRateCount() {
+        return monthlyMultipliers.size();
+    }
+
+    /** The display label, so combo boxes and reports show "Monthly" rather than MONTHLY. */
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -7,7 +7,6 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 
 /**
  * SwingWorker that writes a schedule CSV to a temporary file and moves it into place.
@@ -23,13 +22,8 @@ public class CsvExportWorker extends SwingWorker<Void, Integer> {
         this.result = result;
         this.monthly = monthly;
         this.targetFile = targetFile;
-        if (monthly) {
-            List<MonthlyData> md = result.getMonthlyData();
-            this.totalRows = (md == null) ? 1 : (md.size() + 1);
-        } else {
-            List<YearlyData> yd = result.getYearlyData();
-            this.totalRows = (yd == null) ? 1 : (yd.size() + 1);
-        }
+        // Row counts come from the result so lazy schedules are not generated just to size progress
+        this.totalRows = (monthly ? result.getMonthlyRowCount() : result.getYearlyRowCount()) + 1;
     }
 
     @Override
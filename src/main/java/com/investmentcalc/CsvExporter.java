@@ -7,7 +7,6 @@ import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.List;
 import java.util.Locale;
 import java.math.RoundingMode;
 
@@ -22,22 +21,15 @@ public final class CsvExporter {
         try (PrintWriter pw = new PrintWriter(writer)) {
             if (monthly) {
                 pw.println("Month,Start Balance,Contributions,Interest,End Balance");
-                List<MonthlyData> monthlyData = result.getMonthlyData();
-                if (monthlyData != null) {
-                    for (MonthlyData d : monthlyData) {
-                        pw.printf(Locale.US, "%s,%.2f,%.2f,%.2f,%.2f%n",
-                            d.getMonth(), asDouble(d.getStartBalance()), asDouble(d.getContributions()), asDouble(d.getInterestEarned()), asDouble(d.getEndBalance()));
-                    }
-                }
+                // Rows are streamed so lazily computed schedules are never held in memory
+                result.monthlyStream().forEach(d ->
+                    pw.printf(Locale.US, "%s,%.2f,%.2f,%.2f,%.2f%n",
+                        d.getMonth(), asDouble(d.getStartBalance()), asDouble(d.getContributions()), asDouble(d.getInterestEarned()), asDouble(d.getEndBalance())));
             } else {
                 pw.println("Year,Start Balance,Contributions,Interest,End Balance");
-                List<YearlyData> yearlyData = result.getYearlyData();
-                if (yearlyData != null) {
-                    for (YearlyData d : yearlyData) {
-                        pw.printf(Locale.US, "%d,%.2f,%.2f,%.2f,%.2f%n",
-                            d.getYear(), asDouble(d.getStartBalance()), asDouble(d.getContributions()), asDouble(d.getInterestEarned()), asDouble(d.getEndBalance()));
-                    }
-                }
+                result.yearlyStream().forEach(d ->
+                    pw.printf(Locale.US, "%d,%.2f,%.2f,%.2f,%.2f%n",
+                        d.getYear(), asDouble(d.getStartBalance()), asDouble(d.getContributions()), asDouble(d.getInterestEarned()), asDouble(d.getEndBalance())));
             }
             pw.flush();
         }
@@ -0,0 +1,166 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Retirement drawdown: regular withdrawals from a starting balance until the horizon
+ * ends or the money runs out.
+ *
+ * Withdrawals follow the contribution rules of FinalInvestmentEngine (annual,
+ * quarterly, monthly or the even monthly spread, at the beginning or end of the
+ * period); annualWithdrawal is a positive amount. calculate stops in the month the
+ * balance would go negative, paying only what is left, so no negative balance or
+ * negative interest is ever produced.
+ *
+ * depletionMonth and maxSustainableWithdrawal do not simulate: between withdrawals the
+ * balance only grows or shrinks by the multiplier, and the balances right after each
+ * withdrawal change by a geometric sequence of differences, so they move in one
+ * direction. The first month at or below zero is therefore found by binary search over
+ * the withdrawal months on the BalanceQuery closed form, and the withdrawal that ends
+ * the horizon at exactly zero comes straight from the annuity formula.
+ */
+public class DecumulationEngine {
+
+    public DecumulationResult calculate(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal annualWithdrawal,
+            int withdrawalsPerYear,
+            boolean withdrawAtBeginning) {
+
+        validate(startingAmount, years, annualWithdrawal);
+        MonthlyScheduleStepper stepper = new MonthlyScheduleStepper(startingAmount, years, annualReturnRate,
+            compoundingFrequency, annualWithdrawal.negate(),
+            withdrawalsPerYear, withdrawAtBeginning);
+
+        List<MonthlyData> monthlyData = new ArrayList<>();
+        List<YearlyData> yearlyData = new ArrayList<>();
+        BigDecimal totalWithdrawn = BigDecimal.ZERO;
+        BigDecimal totalInterest = BigDecimal.ZERO;
+        BigDecimal yearStartBalance = startingAmount;
+        BigDecimal yearWithdrawals = BigDecimal.ZERO;
+        BigDecimal yearInterest = BigDecimal.ZERO;
+        int depletionMonth = 0;
+
+        while (stepper.hasNext() && depletionMonth == 0) {
+            MonthlyData md = stepper.next();
+            if (md.getEndBalance().signum() <= 0) {
+                md = lastWithdrawal(md, withdrawAtBeginning);
+                depletionMonth = stepper.getMonthsProduced();
+            }
+            monthlyData.add(md);
+            totalWithdrawn = totalWithdrawn.subtract(md.getContributions());
+            totalInterest = totalInterest.add(md.getInterestEarned());
+            yearWithdrawals = yearWithdrawals.add(md.getContributions());
+            yearInterest = yearInterest.add(md.getInterestEarned());
+
+            int month = stepper.getMonthsProduced();
+            if (month % 12 == 0 || depletionMonth != 0) {
+                yearlyData.add(new YearlyData((month + 11) / 12, yearStartBalance, yearWithdrawals,
+                    yearInterest, md.getEndBalance()));
+                yearStartBalance = md.getEndBalance();
+                yearWithdrawals = BigDecimal.ZERO;
+                yearInterest = BigDecimal.ZERO;
+            }
+        }
+
+        BigDecimal endBalance = monthlyData.isEmpty() ? startingAmount : monthlyData.get(monthlyData.size() - 1).getEndBalance();
+        InvestmentResult schedule = new InvestmentResult(
+            startingAmount,
+            years,
+            annualReturnRate,
+            compoundingFrequency.getLabel(),
+            endBalance,
+            startingAmount.subtract(totalWithdrawn),
+            totalInterest,
+            monthlyData,
+            yearlyData
+        );
+        return new DecumulationResult(schedule, depletionMonth, totalWithdrawn);
+    }
+
+    /**
+     * One-based month in which the balance first reaches zero, or 0 if it lasts the
+     * horizon; O(log months) closed-form evaluations.
+     */
+    public int depletionMonth(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal annualWithdrawal,
+            int withdrawalsPerYear,
+            boolean withdrawAtBeginning) {
+
+        validate(startingAmount, years, annualWithdrawal);
+        int months = years * 12;
+        if (months == 0) return 0;
+        BalanceQuery query = new BalanceQuery(startingAmount, annualReturnRate, compoundingFrequency,
+            annualWithdrawal.negate(), withdrawalsPerYear, withdrawAtBeginning);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(withdrawalsPerYear);
+
+        // Withdrawal j is paid in one-based month j * interval + 1; only those months can reach zero
+        if (query.endBalance(1).signum() <= 0) return 1;
+        int lo = 0;
+        int hi = (months - 1) / interval;
+        if (query.endBalance(hi * interval + 1).signum() > 0) return 0;
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            if (query.endBalance(mid * interval + 1).signum() <= 0) {
+                hi = mid;
+            } else {
+                lo = mid;
+            }
+        }
+        return hi * interval + 1;
+    }
+
+    /**
+     * Largest annual withdrawal that the starting amount sustains for the whole
+     * horizon: the balance ends at zero after the last month. Rounded down at scale 10.
+     */
+    public BigDecimal maxSustainableWithdrawal(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            CompoundingFrequency compoundingFrequency,
+            int withdrawalsPerYear,
+            boolean withdrawAtBeginning) {
+
+        if (years <= 0) throw new IllegalArgumentException("Years must be positive: " + years);
+        validate(startingAmount, years, BigDecimal.ZERO);
+        int months = years * 12;
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(withdrawalsPerYear);
+        BigDecimal m = BigDecimal.valueOf(compoundingFrequency.monthlyMultiplier(annualReturnRate));
+
+        // start * m^n - perEvent * factor = 0
+        BigDecimal factor = AnnuityMath.contributionFactor(m, 0, months, interval, withdrawAtBeginning);
+        BigDecimal perEvent = startingAmount.multiply(m.pow(months, AnnuityMath.PRECISION))
+            .divide(factor, AnnuityMath.PRECISION);
+        // Events per year: 1, 4 or 12 (the even monthly spread also pays 12 times)
+        return perEvent.multiply(BigDecimal.valueOf(12 / interval)).setScale(10, RoundingMode.DOWN);
+    }
+
+    // The month the money runs out: pay what is left instead of the full withdrawal
+    private static MonthlyData lastWithdrawal(MonthlyData md, boolean withdrawAtBeginning) {
+        BigDecimal interest = withdrawAtBeginning ? BigDecimal.ZERO : md.getInterestEarned();
+        BigDecimal available = md.getStartBalance().add(interest);
+        return new MonthlyData(md.getMonthIndex(), md.getStartBalance(), available.negate(), interest,
+            BigDecimal.ZERO.setScale(10));
+    }
+
+    private static void validate(BigDecimal startingAmount, int years, BigDecimal annualWithdrawal) {
+        if (years < 0) throw new IllegalArgumentException("Years must not be negative: " + years);
+        if (startingAmount.signum() <= 0) {
+            throw new IllegalArgumentException("Starting amount must be positive: " + startingAmount);
+        }
+        if (annualWithdrawal.signum() < 0) {
+            throw new IllegalArgumentException("Withdrawal must not be negative: " + annualWithdrawal);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of DecumulationEngine.calculate: the schedule up to depletion (or the full
+ * horizon) and the month the money ran out.
+ */
+public class DecumulationResult {
+    private final InvestmentResult schedule;
+    private final int depletionMonth;
+    private final BigDecimal totalWithdrawn;
+
+    public DecumulationResult(InvestmentResult schedule, int depletionMonth, BigDecimal totalWithdrawn) {
+        this.schedule = schedule;
+        this.depletionMonth = depletionMonth;
+        this.totalWithdrawn = totalWithdrawn;
+    }
+
+    // Getters
+    /** Rows up to and including the depletion month; its end balance is zero. */
+    public InvestmentResult getSchedule() { return schedule; }
+    public boolean isDepleted() { return depletionMonth > 0; }
+    /** One-based month in which the balance reached zero, or 0 if it lasted the whole horizon. */
+    public int getDepletionMonth() { return depletionMonth; }
+    /** Sum of the withdrawals actually paid, as a positive amount. */
+    public BigDecimal getTotalWithdrawn() { return totalWithdrawn; }
+    public BigDecimal getEndBalance() { return schedule.getEndBalance(); }
+}
@@ -0,0 +1,132 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * Primitive double-precision engine.
+ *
+ * Runs the same month-by-month model as FinalInvestmentEngine (same monthly multiplier,
+ * contribution months and beginning/end-of-period timing) but keeps the schedule in
+ * double[] columns and allocates nothing inside the monthly loop. Results are returned
+ * as CompactInvestmentResult, so no per-month objects exist unless rows are read.
+ *
+ * Accuracy: every balance, contribution and interest value agrees with
+ * FinalInvestmentEngine to within RELATIVE_TOLERANCE of the larger magnitude involved
+ * (in practice the difference is around 1e-12 relative over a 30-year horizon).
+ */
+public class DoubleInvestmentEngine implements InvestmentEngine {
+
+    /** Documented agreement with FinalInvestmentEngine, relative to the end balance. */
+    public static final double RELATIVE_TOLERANCE = 1e-9;
+
+    @Override
+    public InvestmentResult calculateInvestment(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        ScheduleColumns columns = computeSchedule(
+            startingAmount.doubleValue(),
+            years,
+            annualReturnRate,
+            compoundingFrequency,
+            additionalContribution.doubleValue(),
+            contributionsPerYear,
+            contributeAtBeginning
+        );
+
+        // The schedule stays in the primitive columns; rows are only built if read
+        return new CompactInvestmentResult(
+                startingAmount,
+                years,
+                annualReturnRate,
+                compoundingFrequency.getLabel(),
+                columns
+        );
+    }
+
+    /**
+     * Compute the monthly schedule into freshly allocated columns.
+     */
+    public ScheduleColumns computeSchedule(
+            double startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            CompoundingFrequency compoundingFrequency,
+            double additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        ScheduleColumns columns = new ScheduleColumns(years * 12);
+        fillSchedule(
+            columns,
+            startingAmount,
+            compoundingFrequency.monthlyMultiplier(annualReturnRate),
+            additionalContribution,
+            contributionsPerYear,
+            contributeAtBeginning
+        );
+        return columns;
+    }
+
+    /** computeSchedule for a frequency label; unknown labels are rejected. */
+    public ScheduleColumns computeSchedule(
+            double startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            String compoundingFrequency,
+            double additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+        return computeSchedule(startingAmount, years, annualReturnRate, CompoundingFrequency.parse(compoundingFrequency),
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    /**
+     * Fill every month of the given columns. This is the allocation-free inner loop.
+     */
+    static void fillSchedule(
+            ScheduleColumns columns,
+            double startingAmount,
+            double monthlyMultiplier,
+            double additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        double[] start = columns.getStartBalance();
+        double[] contrib = columns.getContributions();
+        double[] interest = columns.getInterestEarned();
+        double[] end = columns.getEndBalance();
+        int totalMonths = columns.getMonthCount();
+
+        double monthlyInterestFactor = monthlyMultiplier - 1.0;
+        double contributionAmountPerEvent =
+                FinalInvestmentEngine.contributionPerEvent(additionalContribution, contributionsPerYear);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+
+        double currentBalance = startingAmount;
+        for (int i = 0; i < totalMonths; i++) {
+            double thisMonthContributions = (i % interval == 0) ? contributionAmountPerEvent : 0.0;
+            double thisMonthInterest;
+
+            start[i] = currentBalance;
+            if (contributeAtBeginning) {
+                currentBalance += thisMonthContributions;
+                thisMonthInterest = currentBalance * monthlyInterestFactor;
+                currentBalance += thisMonthInterest;
+            } else {
+                thisMonthInterest = currentBalance * monthlyInterestFactor;
+                currentBalance += thisMonthInterest;
+                currentBalance += thisMonthContributions;
+            }
+
+            contrib[i] = thisMonthContributions;
+            interest[i] = thisMonthInterest;
+            end[i] = currentBalance;
+        }
+    }
+}
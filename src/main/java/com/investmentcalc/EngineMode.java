@@ -0,0 +1,23 @@
+package com.investmentcalc;
+
+/**
+ * Selects which engine implementation serves a calculation.
+ *
+ * EXACT is the BigDecimal FinalInvestmentEngine. FAST is the primitive
+ * DoubleInvestmentEngine, which agrees with EXACT to within
+ * DoubleInvestmentEngine.RELATIVE_TOLERANCE and is intended for batch work.
+ */
+public enum EngineMode {
+    EXACT(new FinalInvestmentEngine()),
+    FAST(new DoubleInvestmentEngine());
+
+    private final InvestmentEngine engine;
+
+    EngineMode(InvestmentEngine engine) {
+        this.engine = engine;
+    }
+
+    public InvestmentEngine engine() {
+        return engine;
+    }
+}
@@ -3,7 +3,10 @@ package com.investmentcalc;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Corrected FinalInvestmentEngine.
@@ -14,33 +17,70 @@ import java.util.List;
  *   so the discrete compounding effect is preserved when simulating month-by-month.
  * - Respects contributeAtBeginning vs contributeAtEnd semantics.
  *
- * Note: MonthlyData, YearlyData and InvestmentResult classes are assumed to exist
- * and provide constructors/getters used here.
+ * Thread safety: the engine holds no state, so one instance can be shared by any
+ * number of threads (see ConcurrencyStressTest). Every call builds its own stepper and
+ * lists, sized exactly to years * 12 monthly and years yearly rows.
  */
-public class FinalInvestmentEngine {
+public class FinalInvestmentEngine implements InvestmentEngine {
 
+    @Override
     public InvestmentResult calculateInvestment(
             BigDecimal startingAmount,
             int years,
             BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
-            String compoundingFrequency,
+            CompoundingFrequency compoundingFrequency,
             BigDecimal additionalContribution,
             int contributionsPerYear,
             boolean contributeAtBeginning) {
+        return calculate(startingAmount, years, annualReturnRate, compoundingFrequency,
+                additionalContribution, contributionsPerYear, contributeAtBeginning, Collections.emptyList(), false);
+    }
+
+    /**
+     * calculateInvestment with per-month adjustments (fees, inflation, tax drag; see
+     * AdjustmentStages) applied in order inside the month loop, after interest and
+     * contributions. No extra pass over the schedule is made. Interest in the rows and
+     * totals is net of the adjustments; each stage's total is on the result.
+     */
+    public AdjustedInvestmentResult calculateInvestment(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning,
+            List<AdjustmentStage> stages) {
+        return (AdjustedInvestmentResult) calculate(startingAmount, years, annualReturnRate, compoundingFrequency,
+                additionalContribution, contributionsPerYear, contributeAtBeginning, stages, true);
+    }
+
+    private InvestmentResult calculate(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning,
+            List<AdjustmentStage> stages,
+            boolean adjusted) {
 
-        List<MonthlyData> monthlyData = new ArrayList<>();
-        List<YearlyData> yearlyData = new ArrayList<>();
+        if (years < 0) throw new IllegalArgumentException("Years must not be negative: " + years);
+        List<MonthlyData> monthlyData = new ArrayList<>(years * 12);
+        List<YearlyData> yearlyData = new ArrayList<>(years);
 
         // Generate monthly schedule and also compute totals from it
-        generateMonthlySchedule(
+        BigDecimal[] adjustmentTotals = generateMonthlySchedule(
             monthlyData,
             startingAmount,
             years,
             annualReturnRate,
-            getCompoundingPeriods(compoundingFrequency),
+            compoundingFrequency,
             additionalContribution,
             contributionsPerYear,
-            contributeAtBeginning
+            contributeAtBeginning,
+            stages
         );
 
         // Compute final totals from monthlyData
@@ -76,6 +116,25 @@ public class FinalInvestmentEngine {
             }
         }
 
+        if (adjusted) {
+            // Stages sharing a name are reported together
+            Map<String, BigDecimal> totalsByStage = new LinkedHashMap<>();
+            for (int s = 0; s < stages.size(); s++) {
+                totalsByStage.merge(stages.get(s).getName(), adjustmentTotals[s], BigDecimal::add);
+            }
+            return new AdjustedInvestmentResult(
+                    startingAmount,
+                    years,
+                    annualReturnRate,
+                    compoundingFrequency,
+                    currentBalance,
+                    totalContributions,
+                    totalInterest,
+                    monthlyData,
+                    yearlyData,
+                    Collections.unmodifiableMap(totalsByStage)
+            );
+        }
         return new InvestmentResult(
                 startingAmount,
                 years,
@@ -89,31 +148,138 @@ public class FinalInvestmentEngine {
         );
     }
 
+    /**
+     * Summary-only calculation: end balance, total contributions and total interest
+     * computed directly from annuity formulas over the monthly multiplier, without
+     * building the schedule. The cost does not depend on the horizon.
+     *
+     * Agrees with calculateInvestment to well under a cent; the returned result has
+     * empty monthly and yearly schedules.
+     */
+    public InvestmentResult calculateSummary(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        // Starting amount compounds for every month; contributions form an
+        // ordinary annuity (end of period) or annuity-due (beginning of period).
+        BalanceQuery query = new BalanceQuery(startingAmount, annualReturnRate, compoundingFrequency,
+                additionalContribution, contributionsPerYear, contributeAtBeginning);
+        BigDecimal endBalance = query.endBalance(years * 12);
+        BigDecimal totalContributions = query.contributionsToDate(years * 12);
+        BigDecimal totalInterest = endBalance.subtract(totalContributions);
+
+        return new InvestmentResult(
+                startingAmount,
+                years,
+                annualReturnRate,
+                compoundingFrequency,
+                endBalance.setScale(10, RoundingMode.HALF_UP),
+                totalContributions.setScale(10, RoundingMode.HALF_UP),
+                totalInterest.setScale(10, RoundingMode.HALF_UP),
+                Collections.emptyList(),
+                Collections.emptyList()
+        );
+    }
+
+    /** calculateSummary for a frequency label; unknown labels are rejected. */
+    public InvestmentResult calculateSummary(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            String compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+        return calculateSummary(startingAmount, years, annualReturnRate, CompoundingFrequency.parse(compoundingFrequency),
+                additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    /**
+     * Like calculateInvestment, but the monthly and yearly schedules are not built up
+     * front: monthlyStream() and yearlyStream() on the returned result compute rows
+     * in a single constant-memory pass while they are consumed. Totals come from
+     * calculateSummary, so they can differ from the last streamed row in the last
+     * digits at scale 10 (see LazyInvestmentResult).
+     */
+    public InvestmentResult calculateStreaming(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        InvestmentResult summary = calculateSummary(
+            startingAmount, years, annualReturnRate, compoundingFrequency,
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+
+        return new LazyInvestmentResult(summary, () -> new MonthlyScheduleStepper(
+            startingAmount,
+            years,
+            annualReturnRate,
+            compoundingFrequency,
+            additionalContribution,
+            contributionsPerYear,
+            contributeAtBeginning
+        ));
+    }
+
+    /** calculateStreaming for a frequency label; unknown labels are rejected. */
+    public InvestmentResult calculateStreaming(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            String compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+        return calculateStreaming(startingAmount, years, annualReturnRate, CompoundingFrequency.parse(compoundingFrequency),
+                additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
     /**
      * Simulate month-by-month but compute monthly interest using the discrete compounding math:
      * monthlyMultiplier = (1 + periodicRate)^(compoundingPeriodsPerYear / 12.0)
+     * Returns the total taken out by each adjustment stage.
      */
-    private void generateMonthlySchedule(
+    private BigDecimal[] generateMonthlySchedule(
         List<MonthlyData> monthlyData,
         BigDecimal startingAmount,
         int years,
         BigDecimal annualReturnRate,
-        int compoundingPeriodsPerYear,
+        CompoundingFrequency compoundingFrequency,
         BigDecimal additionalContribution,
         int contributionsPerYear,
-        boolean contributeAtBeginning) {
+        boolean contributeAtBeginning,
+        List<AdjustmentStage> stages) {
 
-        BigDecimal currentBalance = startingAmount;
-
-        // contribution per event (e.g. if contributionsPerYear=12, this is monthly amount)
-        BigDecimal contributionAmountPerEvent = BigDecimal.ZERO;
-        if (contributionsPerYear > 0) {
-            contributionAmountPerEvent = additionalContribution
-                    .divide(BigDecimal.valueOf(contributionsPerYear), 20, RoundingMode.HALF_UP);
+        MonthlyScheduleStepper stepper = new MonthlyScheduleStepper(
+            startingAmount,
+            years,
+            annualReturnRate,
+            compoundingFrequency,
+            additionalContribution,
+            contributionsPerYear,
+            contributeAtBeginning,
+            stages
+        );
+        while (stepper.hasNext()) {
+            monthlyData.add(stepper.next());
         }
+        return stepper.getAdjustmentTotals();
+    }
 
-        int totalMonths = years * 12;
-
+    /**
+     * Monthly growth multiplier shared by all engines:
+     * (1 + annualRate / compoundingPeriodsPerYear)^(compoundingPeriodsPerYear / 12.0)
+     */
+    static double monthlyMultiplier(BigDecimal annualReturnRate, int compoundingPeriodsPerYear) {
         // Convert annual percent to decimal (e.g. 7% -> 0.07)
         BigDecimal annualRateDecimal = annualReturnRate
                 .divide(BigDecimal.valueOf(100), 30, RoundingMode.HALF_UP);
@@ -129,104 +295,64 @@ public class FinalInvestmentEngine {
         double periodsPerMonth = (double) compoundingPeriodsPerYear / 12.0;
 
         // monthly multiplier = (1 + r_period)^(periodsPerMonth)
-        // use double pow then convert to BigDecimal with scale
-        double periodMultiplierDouble = periodMultiplier.doubleValue();
-        double monthlyMultiplierDouble = Math.pow(periodMultiplierDouble, periodsPerMonth);
-        BigDecimal monthlyMultiplier = BigDecimal.valueOf(monthlyMultiplierDouble);
-
-        // monthly interest factor = monthlyMultiplier - 1
-        BigDecimal monthlyInterestFactor = monthlyMultiplier.subtract(BigDecimal.ONE);
-
-        // Build a simple contribution schedule mapping months -> contribution amount.
-        // For standard frequencies (1,4,12) use explicit months; otherwise distribute evenly per month.
-        // This preserves the month semantics you described.
-        for (int month = 1; month <= totalMonths; month++) {
-
-            BigDecimal monthStartBalance = currentBalance;
-            BigDecimal thisMonthContributions = BigDecimal.ZERO;
-
-            // Determine contributions this month
-            if (contributionsPerYear > 0 || additionalContribution.compareTo(BigDecimal.ZERO) != 0) {
-                switch (contributionsPerYear) {
-                    case 1: // annual -> assumed in month 1 (January)
-                        if ((month - 1) % 12 == 0) {
-                            thisMonthContributions = contributionAmountPerEvent;
-                        }
-                        break;
-                    case 4: // quarterly -> months 1,4,7,10
-                        int monthInYear = ((month - 1) % 12) + 1;
-                        if (monthInYear == 1 || monthInYear == 4 || monthInYear == 7 || monthInYear == 10) {
-                            thisMonthContributions = contributionAmountPerEvent;
-                        }
-                        break;
-                    case 12: // monthly
-                        thisMonthContributions = contributionAmountPerEvent;
-                        break;
-                    default:
-                        // distribute evenly across 12 months (for nonstandard contributed-per-year values)
-                        thisMonthContributions = additionalContribution.divide(BigDecimal.valueOf(12), 20, RoundingMode.HALF_UP);
-                        break;
-                }
-            }
-
-            // Handle both positive contributions and negative withdrawals
-            if (contributeAtBeginning && thisMonthContributions.compareTo(BigDecimal.ZERO) != 0) {
-                currentBalance = currentBalance.add(thisMonthContributions); // This will subtract if negative
-            }
-
-            // Calculate interest for the month using the discrete compounding monthly factor
-            // interest = balance * monthlyInterestFactor
-            BigDecimal thisMonthInterest = monthStartBalance.multiply(monthlyInterestFactor).setScale(20, RoundingMode.HALF_UP);
-
-            // Apply interest to current balance (if contribution was added at beginning, interest should be applied to monthStartBalance or to balance including beginning-of-month contribution?)
-            // We use monthStartBalance for the interest base so that "contributeAtBeginning" yields contribution earning interest for the month.
-            if (contributeAtBeginning) {
-                // monthStartBalance was the balance before adding contribution; since we added contribution to currentBalance already,
-                // the proper interest base for begin-of-period semantics is (monthStartBalance + contribution).
-                BigDecimal beginBalanceForInterest = monthStartBalance.add(thisMonthContributions);
-                thisMonthInterest = beginBalanceForInterest.multiply(monthlyInterestFactor).setScale(20, RoundingMode.HALF_UP);
-            } else {
-                // end-of-period contributions earn no interest during the month
-                thisMonthInterest = monthStartBalance.multiply(monthlyInterestFactor).setScale(20, RoundingMode.HALF_UP);
-            }
-
-            // Add computed interest to current balance
-            currentBalance = currentBalance.add(thisMonthInterest);
-
-            // Handle end-of-period contributions/withdrawals
-            if (!contributeAtBeginning && thisMonthContributions.compareTo(BigDecimal.ZERO) != 0) {
-                currentBalance = currentBalance.add(thisMonthContributions); // This will subtract if negative
-            }
+        // use double pow; callers convert to BigDecimal where needed
+        return Math.pow(periodMultiplier.doubleValue(), periodsPerMonth);
+    }
 
-            // Record display data
-            int displayYear = ((month - 1) / 12) + 1;
-            int displayMonth = ((month - 1) % 12) + 1;
-            String monthLabel = String.format("Year %d, Month %d", displayYear, displayMonth);
+    /**
+     * Double-precision monthlyMultiplier for iterative fast paths (e.g. solvers) where the
+     * rate itself is the unknown; equal to the BigDecimal version to within an ulp or two.
+     */
+    static double monthlyMultiplier(double annualReturnRate, int compoundingPeriodsPerYear) {
+        return Math.pow(1.0 + annualReturnRate / 100.0 / compoundingPeriodsPerYear,
+                (double) compoundingPeriodsPerYear / 12.0);
+    }
 
-            // Round values for display/storage (choose a reasonable scale, e.g. 10)
-            BigDecimal displayedStart = monthStartBalance.setScale(10, RoundingMode.HALF_UP);
-            BigDecimal displayedContrib = thisMonthContributions.setScale(10, RoundingMode.HALF_UP);
-            BigDecimal displayedInterest = thisMonthInterest.setScale(10, RoundingMode.HALF_UP);
-            BigDecimal displayedEnd = currentBalance.setScale(10, RoundingMode.HALF_UP);
+    /**
+     * Months between contribution events: 12 for annual, 3 for quarterly, 1 for monthly
+     * and for the even monthly spread used with any other contributionsPerYear value.
+     * Events always fall on month 1 of the interval (months 1, 4, 7, 10 for quarterly).
+     */
+    static int contributionIntervalMonths(int contributionsPerYear) {
+        switch (contributionsPerYear) {
+            case 1:
+                return 12;
+            case 4:
+                return 3;
+            default:
+                return 1;
+        }
+    }
 
-            monthlyData.add(new MonthlyData(monthLabel, displayedStart, displayedContrib, displayedInterest, displayedEnd));
+    /**
+     * Amount paid at each contribution event, matching generateMonthlySchedule:
+     * additionalContribution / contributionsPerYear for 1, 4 and 12, otherwise
+     * additionalContribution / 12 in every month.
+     */
+    static double contributionPerEvent(double additionalContribution, int contributionsPerYear) {
+        switch (contributionsPerYear) {
+            case 1:
+            case 4:
+            case 12:
+                return additionalContribution / contributionsPerYear;
+            default:
+                return additionalContribution / 12.0;
         }
     }
 
-    private int getCompoundingPeriods(String compoundingFrequency) {
-        switch (compoundingFrequency) {
-            case "Annually":
-                return 1;
-            case "Quarterly":
-                return 4;
-            case "Monthly":
-                return 12;
-            case "Weekly":
-                return 52;
-            case "Daily":
-                return 365;
+    static BigDecimal contributionPerEvent(BigDecimal additionalContribution, int contributionsPerYear) {
+        switch (contributionsPerYear) {
+            case 1:
+            case 4:
+            case 12:
+                return additionalContribution
+                        .divide(BigDecimal.valueOf(contributionsPerYear), 20, RoundingMode.HALF_UP);
             default:
-                return 12;
+                return additionalContribution.divide(BigDecimal.valueOf(12), 20, RoundingMode.HALF_UP);
         }
     }
+
+    static int getCompoundingPeriods(String compoundingFrequency) {
+        return CompoundingFrequency.parse(compoundingFrequency).getPeriodsPerYear();
+    }
 }
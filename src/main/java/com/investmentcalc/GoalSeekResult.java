@@ -0,0 +1,46 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of a goal-seek: the solved input and the end balance FinalInvestmentEngine
+ * produces with it.
+ */
+public class GoalSeekResult {
+    private final boolean solved;
+    private final BigDecimal value;
+    private final BigDecimal targetBalance;
+    private final BigDecimal achievedEndBalance;
+    private final int iterations;
+
+    public GoalSeekResult(boolean solved, BigDecimal value, BigDecimal targetBalance,
+                          BigDecimal achievedEndBalance, int iterations) {
+        this.solved = solved;
+        this.value = value;
+        this.targetBalance = targetBalance;
+        this.achievedEndBalance = achievedEndBalance;
+        this.iterations = iterations;
+    }
+
+    static GoalSeekResult unsolved(BigDecimal targetBalance, int iterations) {
+        return new GoalSeekResult(false, null, targetBalance, null, iterations);
+    }
+
+    // Getters
+    /** False when no value of the input reaches the target within tolerance (value is then null). */
+    public boolean isSolved() { return solved; }
+    public BigDecimal getValue() { return value; }
+    public BigDecimal getTargetBalance() { return targetBalance; }
+    public BigDecimal getAchievedEndBalance() { return achievedEndBalance; }
+    public int getIterations() { return iterations; }
+
+    /** Whether the achieved balance is at least the target, less TOLERANCE. */
+    public boolean isTargetReached() {
+        return solved && achievedEndBalance.compareTo(targetBalance.subtract(GoalSeekSolver.TOLERANCE)) >= 0;
+    }
+
+    /** Whether the achieved balance is within GoalSeekSolver.TOLERANCE of the target. */
+    public boolean isWithinTolerance() {
+        return solved && achievedEndBalance.subtract(targetBalance).abs().compareTo(GoalSeekSolver.TOLERANCE) <= 0;
+    }
+}
@@ -0,0 +1,281 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Finds the input needed to reach a target end balance: the annual contribution, the
+ * starting amount, the annual return rate or the number of years.
+ *
+ * No schedules are built. Contribution and starting amount are linear in the end
+ * balance and are solved directly from the annuity closed form (AnnuityMath). The rate
+ * is bracketed and then refined with secant steps on the double closed form, falling
+ * back to bisection whenever a step leaves the bracket. Years are found by exponential
+ * then binary search for the shortest horizon that reaches the target.
+ *
+ * Every answer is re-evaluated with FinalInvestmentEngine.calculateSummary and the
+ * achieved balance is returned with it: for contribution, starting amount and rate a
+ * result is solved only if that balance is within TOLERANCE of the target (see
+ * GoalSeekResult.isWithinTolerance); for years it is at or above the target.
+ */
+public class GoalSeekSolver {
+
+    /** Largest accepted difference between the achieved and the target balance. */
+    public static final BigDecimal TOLERANCE = new BigDecimal("0.01");
+
+    // Rate search range in percent and iteration limits
+    static final double MIN_RATE = -99.999;
+    static final double MAX_RATE = 10_000;
+    static final int MAX_ITERATIONS = 200;
+    static final int MAX_YEARS = 1000;
+
+    // Stop refining the rate once the double model is this close to the target
+    private static final double BALANCE_EPSILON = 1e-5;
+
+    private final FinalInvestmentEngine engine = new FinalInvestmentEngine();
+
+    /**
+     * Annual contribution (same meaning as calculateInvestment's additionalContribution)
+     * that reaches the target. Negative when the starting amount alone overshoots it.
+     */
+    public GoalSeekResult solveContribution(
+            BigDecimal targetBalance,
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            String compoundingFrequency,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        int months = years * 12;
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+        BigDecimal m = monthlyMultiplier(annualReturnRate, compoundingFrequency);
+        BigDecimal factor = AnnuityMath.contributionFactor(m, 0, months, interval, contributeAtBeginning);
+        if (factor.signum() == 0) return GoalSeekResult.unsolved(targetBalance, 0);
+
+        BigDecimal grownStart = startingAmount.multiply(m.pow(months, AnnuityMath.PRECISION));
+        BigDecimal perEvent = targetBalance.subtract(grownStart).divide(factor, AnnuityMath.PRECISION);
+        // Events per year: 1, 4 or 12 (the even monthly spread also pays 12 times)
+        BigDecimal contribution = perEvent.multiply(BigDecimal.valueOf(12 / interval))
+                .setScale(10, RoundingMode.HALF_UP);
+
+        return verified(contribution, 1, targetBalance, startingAmount, years, annualReturnRate,
+                compoundingFrequency, contribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    /**
+     * Starting amount that reaches the target with the given contributions.
+     */
+    public GoalSeekResult solveStartingAmount(
+            BigDecimal targetBalance,
+            int years,
+            BigDecimal annualReturnRate,
+            String compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        int months = years * 12;
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+        BigDecimal m = monthlyMultiplier(annualReturnRate, compoundingFrequency);
+        BigDecimal growth = m.pow(months, AnnuityMath.PRECISION);
+        if (growth.signum() == 0) return GoalSeekResult.unsolved(targetBalance, 0);
+
+        BigDecimal contributed = FinalInvestmentEngine.contributionPerEvent(additionalContribution, contributionsPerYear)
+                .multiply(AnnuityMath.contributionFactor(m, 0, months, interval, contributeAtBeginning));
+        BigDecimal startingAmount = targetBalance.subtract(contributed).divide(growth, AnnuityMath.PRECISION)
+                .setScale(10, RoundingMode.HALF_UP);
+
+        return verified(startingAmount, 1, targetBalance, startingAmount, years, annualReturnRate,
+                compoundingFrequency, additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    /**
+     * Annual return rate in percent that reaches the target. Unsolved when no rate
+     * between MIN_RATE and MAX_RATE gets there, or when the search cannot get within
+     * TOLERANCE of it (e.g. targets so large that adjacent double rates straddle it).
+     */
+    public GoalSeekResult solveRate(
+            BigDecimal targetBalance,
+            BigDecimal startingAmount,
+            int years,
+            String compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        RateFunction f = new RateFunction(targetBalance.doubleValue(), startingAmount.doubleValue(), years * 12,
+                FinalInvestmentEngine.getCompoundingPeriods(compoundingFrequency),
+                FinalInvestmentEngine.contributionPerEvent(additionalContribution.doubleValue(), contributionsPerYear),
+                FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear), contributeAtBeginning);
+
+        // Bracket a sign change, widening outwards from 0%
+        int iterations = 1;
+        double lo = 0.0;
+        double flo = f.apply(lo);
+        double hi = lo;
+        double fhi = flo;
+        if (flo < 0) {
+            hi = 10.0;
+            fhi = f.apply(hi);
+            iterations++;
+            while (fhi < 0 && hi < MAX_RATE) {
+                lo = hi;
+                flo = fhi;
+                hi = Math.min(MAX_RATE, hi * 2);
+                fhi = f.apply(hi);
+                iterations++;
+            }
+        } else if (flo > 0) {
+            lo = -10.0;
+            flo = f.apply(lo);
+            iterations++;
+            while (flo > 0 && lo > MIN_RATE) {
+                hi = lo;
+                fhi = flo;
+                lo = Math.max(MIN_RATE, (lo - 100.0) / 2);
+                flo = f.apply(lo);
+                iterations++;
+            }
+        }
+        if (Math.signum(flo) == Math.signum(fhi) && flo != 0) {
+            return GoalSeekResult.unsolved(targetBalance, iterations);
+        }
+
+        // Secant steps inside the bracket; bisect when a step falls outside it
+        double rate = flo == 0 ? lo : hi;
+        double frate = flo == 0 ? flo : fhi;
+        double prev = lo;
+        double fprev = flo;
+        while (Math.abs(frate) > BALANCE_EPSILON && hi - lo > 1e-13 && iterations < MAX_ITERATIONS) {
+            double next = rate - frate * (rate - prev) / (frate - fprev);
+            if (!(next > lo && next < hi)) {
+                next = 0.5 * (lo + hi);
+            }
+            double fnext = f.apply(next);
+            iterations++;
+
+            if (Math.signum(fnext) == Math.signum(flo)) {
+                lo = next;
+                flo = fnext;
+            } else {
+                hi = next;
+                fhi = fnext;
+            }
+            prev = rate;
+            fprev = frate;
+            rate = next;
+            frate = fnext;
+        }
+
+        BigDecimal solved = BigDecimal.valueOf(rate);
+        return verified(solved, iterations, targetBalance, startingAmount, years, solved,
+                compoundingFrequency, additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    /**
+     * Smallest whole number of years whose end balance reaches the target, assuming
+     * the balance grows with the horizon. Unsolved when MAX_YEARS is not enough.
+     */
+    public GoalSeekResult solveYears(
+            BigDecimal targetBalance,
+            BigDecimal startingAmount,
+            BigDecimal annualReturnRate,
+            String compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        double target = targetBalance.doubleValue();
+        double start = startingAmount.doubleValue();
+        double m = monthlyMultiplier(annualReturnRate, compoundingFrequency).doubleValue();
+        double perEvent = FinalInvestmentEngine.contributionPerEvent(additionalContribution.doubleValue(), contributionsPerYear);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+
+        // Exponential search for a horizon that reaches the target, then binary search below it
+        int iterations = 1;
+        int hi = 0;
+        while (AnnuityMath.endBalance(start, m, hi * 12, perEvent, interval, contributeAtBeginning) < target) {
+            if (hi == MAX_YEARS) return GoalSeekResult.unsolved(targetBalance, iterations);
+            hi = (hi == 0) ? 1 : Math.min(MAX_YEARS, hi * 2);
+            iterations++;
+        }
+        int lo = hi / 2; // does not reach the target unless hi <= 1
+        while (hi - lo > 1) {
+            int mid = (lo + hi) >>> 1;
+            iterations++;
+            if (AnnuityMath.endBalance(start, m, mid * 12, perEvent, interval, contributeAtBeginning) >= target) {
+                hi = mid;
+            } else {
+                lo = mid;
+            }
+        }
+
+        // Settle horizons the double model puts within rounding of the target on the exact engine
+        BigDecimal achieved = endBalance(startingAmount, hi, annualReturnRate, compoundingFrequency,
+                additionalContribution, contributionsPerYear, contributeAtBeginning);
+        while (achieved.compareTo(targetBalance) < 0 && hi < MAX_YEARS) {
+            hi++;
+            achieved = endBalance(startingAmount, hi, annualReturnRate, compoundingFrequency,
+                    additionalContribution, contributionsPerYear, contributeAtBeginning);
+        }
+        if (achieved.compareTo(targetBalance) < 0) return GoalSeekResult.unsolved(targetBalance, iterations);
+
+        return new GoalSeekResult(true, BigDecimal.valueOf(hi), targetBalance, achieved, iterations);
+    }
+
+    private GoalSeekResult verified(BigDecimal value, int iterations, BigDecimal targetBalance,
+                                    BigDecimal startingAmount, int years, BigDecimal annualReturnRate,
+                                    String compoundingFrequency, BigDecimal additionalContribution,
+                                    int contributionsPerYear, boolean contributeAtBeginning) {
+        BigDecimal achieved = endBalance(startingAmount, years, annualReturnRate, compoundingFrequency,
+                additionalContribution, contributionsPerYear, contributeAtBeginning);
+        // A search that stopped short (iteration limit, or a bracket narrower than double
+        // precision can resolve) does not count as solved
+        if (achieved.subtract(targetBalance).abs().compareTo(TOLERANCE) > 0) {
+            return GoalSeekResult.unsolved(targetBalance, iterations);
+        }
+        return new GoalSeekResult(true, value, targetBalance, achieved, iterations);
+    }
+
+    private BigDecimal endBalance(BigDecimal startingAmount, int years, BigDecimal annualReturnRate,
+                                  String compoundingFrequency, BigDecimal additionalContribution,
+                                  int contributionsPerYear, boolean contributeAtBeginning) {
+        return engine.calculateSummary(startingAmount, years, annualReturnRate, compoundingFrequency,
+                additionalContribution, contributionsPerYear, contributeAtBeginning).getEndBalance();
+    }
+
+    // Uncached: solver rates are often one-off and should not displace the shared cache entries
+    private static BigDecimal monthlyMultiplier(BigDecimal annualReturnRate, String compoundingFrequency) {
+        return BigDecimal.valueOf(FinalInvestmentEngine.monthlyMultiplier(annualReturnRate,
+            CompoundingFrequency.parse(compoundingFrequency).getPeriodsPerYear()));
+    }
+
+    // End balance minus target as a function of the annual rate, on the double closed form
+    private static final class RateFunction {
+        private final double targetBalance;
+        private final double startingAmount;
+        private final int months;
+        private final int compoundingPeriodsPerYear;
+        private final double contributionPerEvent;
+        private final int interval;
+        private final boolean contributeAtBeginning;
+
+        RateFunction(double targetBalance, double startingAmount, int months, int compoundingPeriodsPerYear,
+                     double contributionPerEvent, int interval, boolean contributeAtBeginning) {
+            this.targetBalance = targetBalance;
+            this.startingAmount = startingAmount;
+            this.months = months;
+            this.compoundingPeriodsPerYear = compoundingPeriodsPerYear;
+            this.contributionPerEvent = contributionPerEvent;
+            this.interval = interval;
+            this.contributeAtBeginning = contributeAtBeginning;
+        }
+
+        double apply(double rate) {
+            double m = FinalInvestmentEngine.monthlyMultiplier(rate, compoundingPeriodsPerYear);
+            return AnnuityMath.endBalance(startingAmount, m, months, contributionPerEvent, interval, contributeAtBeginning)
+                    - targetBalance;
+        }
+    }
+}
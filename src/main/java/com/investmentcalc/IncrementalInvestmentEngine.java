@@ -0,0 +1,214 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FinalInvestmentEngine that reuses work across horizons.
+ *
+ * For each recent scenario (all inputs except years) the engine keeps the schedule
+ * computed so far and a checkpoint at every year boundary: the unrounded balance and
+ * the running totals. Asking for a longer horizon resumes the month loop from the last
+ * checkpoint, so going from 50 to 51 years steps 12 months instead of 612; a shorter
+ * horizon is served from the checkpoints without stepping at all.
+ *
+ * Results are identical to FinalInvestmentEngine.calculateInvestment; their schedule
+ * lists are unmodifiable views of the shared history rather than copies, so a result
+ * costs the same for 1 year as for 1000. Safe for concurrent use. The last MAX_SCENARIOS scenarios
+ * are kept, least recently used first out.
+ */
+public class IncrementalInvestmentEngine implements InvestmentEngine {
+
+    /** Number of scenarios whose schedules and checkpoints are kept. */
+    static final int MAX_SCENARIOS = 16;
+
+    private final Map<Scenario, ScheduleHistory> histories =
+        new LinkedHashMap<Scenario, ScheduleHistory>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Scenario, ScheduleHistory> eldest) {
+                return size() > MAX_SCENARIOS;
+            }
+        };
+
+    private final AtomicLong monthsStepped = new AtomicLong();
+
+    @Override
+    public InvestmentResult calculateInvestment(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        if (years < 0) throw new IllegalArgumentException("Years must not be negative: " + years);
+
+        // Years is the one input allowed to differ between calls sharing a history
+        Scenario key = new Scenario(startingAmount, 0, annualReturnRate, compoundingFrequency,
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+        ScheduleHistory history;
+        synchronized (histories) {
+            history = histories.computeIfAbsent(key, k -> new ScheduleHistory(startingAmount));
+        }
+
+        synchronized (history) {
+            if (years > history.getYearsComputed()) {
+                extend(history, key, years);
+            }
+            return history.result(years, annualReturnRate, compoundingFrequency);
+        }
+    }
+
+    /** Total months stepped by this engine, for measuring how much work was reused. */
+    public long getMonthsStepped() {
+        return monthsStepped.get();
+    }
+
+    // Resume the month loop from the last checkpoint up to the given horizon
+    private void extend(ScheduleHistory history, Scenario scenario, int years) {
+        int fromYear = history.getYearsComputed();
+        Checkpoint last = history.checkpoints.get(fromYear);
+
+        MonthlyScheduleStepper stepper = new MonthlyScheduleStepper(
+            scenario.getStartingAmount(),
+            years,
+            scenario.getAnnualReturnRate(),
+            scenario.getFrequency(),
+            scenario.getAdditionalContribution(),
+            scenario.getContributionsPerYear(),
+            scenario.isContributeAtBeginning()
+        );
+        stepper.resumeFrom(fromYear * 12, last.balance);
+
+        BigDecimal totalContributions = last.totalContributions;
+        BigDecimal totalInterest = last.totalInterest;
+        BigDecimal yearStartBalance = fromYear == 0
+            ? scenario.getStartingAmount()
+            : history.yearly.get(fromYear - 1).getEndBalance();
+        BigDecimal yearContributions = BigDecimal.ZERO;
+        BigDecimal yearInterest = BigDecimal.ZERO;
+
+        while (stepper.hasNext()) {
+            MonthlyData md = stepper.next();
+            history.monthly.add(md);
+            totalContributions = totalContributions.add(md.getContributions());
+            totalInterest = totalInterest.add(md.getInterestEarned());
+            yearContributions = yearContributions.add(md.getContributions());
+            yearInterest = yearInterest.add(md.getInterestEarned());
+
+            if (stepper.getMonthsProduced() % 12 == 0) {
+                int year = stepper.getMonthsProduced() / 12;
+                history.yearly.add(new YearlyData(year, yearStartBalance, yearContributions, yearInterest, md.getEndBalance()));
+                history.checkpoints.add(new Checkpoint(stepper.getCurrentBalance(), totalContributions, totalInterest));
+                yearStartBalance = md.getEndBalance();
+                yearContributions = BigDecimal.ZERO;
+                yearInterest = BigDecimal.ZERO;
+            }
+        }
+        monthsStepped.addAndGet(stepper.getMonthsProduced() - fromYear * 12L);
+    }
+
+    // State at a year boundary; index 0 is the start of the schedule
+    private static final class Checkpoint {
+        final BigDecimal balance;            // unrounded, as carried by the stepper
+        final BigDecimal totalContributions; // starting amount plus displayed contributions so far
+        final BigDecimal totalInterest;      // displayed interest so far
+
+        Checkpoint(BigDecimal balance, BigDecimal totalContributions, BigDecimal totalInterest) {
+            this.balance = balance;
+            this.totalContributions = totalContributions;
+            this.totalInterest = totalInterest;
+        }
+    }
+
+    // Everything computed so far for one scenario; guarded by its own monitor
+    private static final class ScheduleHistory {
+        final BigDecimal startingAmount;
+        final AppendOnlyList<MonthlyData> monthly = new AppendOnlyList<>();
+        final AppendOnlyList<YearlyData> yearly = new AppendOnlyList<>();
+        final List<Checkpoint> checkpoints = new ArrayList<>();
+
+        ScheduleHistory(BigDecimal startingAmount) {
+            this.startingAmount = startingAmount;
+            checkpoints.add(new Checkpoint(startingAmount, startingAmount, BigDecimal.ZERO));
+        }
+
+        int getYearsComputed() {
+            return checkpoints.size() - 1;
+        }
+
+        InvestmentResult result(int years, BigDecimal annualReturnRate, CompoundingFrequency compoundingFrequency) {
+            Checkpoint checkpoint = checkpoints.get(years);
+            BigDecimal endBalance = years == 0 ? startingAmount : monthly.get(years * 12 - 1).getEndBalance();
+            return new InvestmentResult(
+                startingAmount,
+                years,
+                annualReturnRate,
+                compoundingFrequency,
+                endBalance,
+                checkpoint.totalContributions,
+                checkpoint.totalInterest,
+                monthly.prefix(years * 12),
+                yearly.prefix(years)
+            );
+        }
+    }
+
+    // Grows by replacing a full array rather than resizing it, and never overwrites a
+    // slot, so a prefix view keeps seeing the same elements however far the history is
+    // extended afterwards (an ArrayList subList would fail once the list is appended to)
+    private static final class AppendOnlyList<E> {
+        private Object[] elements = new Object[12];
+        private int size;
+
+        void add(E element) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = element;
+        }
+
+        @SuppressWarnings("unchecked")
+        E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        List<E> prefix(int length) {
+            Objects.checkFromToIndex(0, length, size);
+            return new Prefix<>(elements, length);
+        }
+    }
+
+    // Read-only view of the first size elements of an AppendOnlyList array
+    private static final class Prefix<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        Prefix(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
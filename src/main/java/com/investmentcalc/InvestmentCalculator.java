@@ -17,7 +17,7 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
+import java.util.concurrent.CancellationException;
 
 /**
  * Main Investment Calculator Application
@@ -28,7 +28,7 @@ public class InvestmentCalculator extends JFrame {
     private JTextField startingAmountField;
     private JTextField yearsField;
     private JTextField returnRateField;
-    private JComboBox<String> compoundingCombo;
+    private JComboBox<CompoundingFrequency> compoundingCombo;
     private JTextField additionalContributionField;
     private JTextField contributionFrequencyField;
     private JComboBox<String> contributionTimingCombo;
@@ -36,17 +36,22 @@ public class InvestmentCalculator extends JFrame {
     private JEditorPane resultsArea;
     private JTabbedPane scheduleTabbedPane;
     
-    private FinalInvestmentEngine calculator;
+    private InvestmentEngine calculator;
     private InvestmentChartPanel chartPanelComponent;
     private InvestmentPieChartPanel pieChartPanelComponent; // Added pie chart panel
     private String selectedCurrency = "USD";
     private InvestmentResult lastResult; // store last calculated result for export
+    // Bumped on the EDT for every calculation request; only the latest one is painted
+    private long calculationGeneration;
+    private CalculationWorker<RenderedResult> calculationWorker;
     
     private JFrame fullScreenChartFrame;
 
     public InvestmentCalculator() {
         initializeLookAndFeel();
-        calculator = new FinalInvestmentEngine();
+        // Repeated Calculate clicks and Enter presses with unchanged inputs reuse the last results,
+        // and changing only the years resumes from the previous schedule
+        calculator = new CachingInvestmentEngine(new IncrementalInvestmentEngine());
         initializeComponents();
         setupLayout();
         setupEventHandlers();
@@ -75,9 +80,12 @@ public class InvestmentCalculator extends JFrame {
         yearsField = new JTextField("10", 15);
         returnRateField = new JTextField("7", 15);
         
-        String[] compoundingOptions = {"Annually", "Monthly", "Daily", "Weekly", "Quarterly"};
+        CompoundingFrequency[] compoundingOptions = {
+            CompoundingFrequency.ANNUALLY, CompoundingFrequency.MONTHLY, CompoundingFrequency.DAILY,
+            CompoundingFrequency.WEEKLY, CompoundingFrequency.QUARTERLY
+        };
         compoundingCombo = new JComboBox<>(compoundingOptions);
-        compoundingCombo.setSelectedIndex(1); // Default to Monthly
+        compoundingCombo.setSelectedItem(CompoundingFrequency.MONTHLY); // Default to Monthly
         
         additionalContributionField = new JTextField("12000", 15);
         contributionFrequencyField = new JTextField("12", 15);
@@ -589,35 +597,23 @@ public class InvestmentCalculator extends JFrame {
                 return;
             }
             
-            String compoundingFrequency = (String) compoundingCombo.getSelectedItem();
+            CompoundingFrequency compoundingFrequency = (CompoundingFrequency) compoundingCombo.getSelectedItem();
             String contributionTiming = (String) contributionTimingCombo.getSelectedItem();
-            selectedCurrency = ((String) currencyCombo.getSelectedItem()).split("\\s+")[0].trim();
-            
-            // Calculate investment
-            InvestmentResult result = calculator.calculateInvestment(
-                startingAmount, years, annualReturnRate, compoundingFrequency,
-                additionalContribution, contributionsPerYear, 
-                contributionTiming.equals("Beginning of Period")
-            );
-            // Store last result for export operations
-            lastResult = result;
-            
-            // Format end balance to 2 decimal places for display
-            BigDecimal formattedEndBalance = result.getEndBalance().setScale(2, RoundingMode.HALF_UP);
-            BigDecimal formattedTotalContributions = result.getTotalContributions().setScale(2, RoundingMode.HALF_UP);
-            BigDecimal formattedTotalInterest = result.getTotalInterest().setScale(2, RoundingMode.HALF_UP);
-            
-            // Display results
-            displayResults(result, formattedEndBalance, formattedTotalContributions, formattedTotalInterest);
+            boolean atBeginning = contributionTiming.equals("Beginning of Period");
+            String currency = ((String) currencyCombo.getSelectedItem()).split("\\s+")[0].trim();
             
-            // Update line chart
-            updateChart(result);
-            
-            // Update pie chart
-            updatePieChart(result);
-            
-            // Update schedules
-            updateSchedules(result);
+            // Calculate and format on a worker thread; a newer request cancels this one
+            if (calculationWorker != null) {
+                calculationWorker.cancel(true);
+            }
+            long generation = ++calculationGeneration;
+            calculationWorker = new CalculationWorker<>(generation, () -> calculationGeneration,
+                () -> render(calculator.calculateInvestment(startingAmount, years, annualReturnRate,
+                    compoundingFrequency, additionalContribution, contributionsPerYear, atBeginning), currency),
+                this::showCalculation,
+                this::showCalculationError);
+            showBusy();
+            calculationWorker.execute();
             
         } catch (NumberFormatException e) {
             JOptionPane.showMessageDialog(this, 
@@ -626,17 +622,76 @@ public class InvestmentCalculator extends JFrame {
                 JOptionPane.ERROR_MESSAGE);
             e.printStackTrace();
         } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, 
-                "Error calculating investment: " + e.getMessage(), 
-                "Calculation Error", 
-                JOptionPane.ERROR_MESSAGE);
-            e.printStackTrace();
+            showCalculationError(e);
+        }
+    }
+
+    // Everything a finished calculation paints, built off the EDT
+    private static final class RenderedResult {
+        final InvestmentResult result;
+        final String currency;
+        final String summaryHtml;
+        final String annualSchedule;
+        final String monthlySchedule;
+
+        RenderedResult(InvestmentResult result, String currency, String summaryHtml,
+                       String annualSchedule, String monthlySchedule) {
+            this.result = result;
+            this.currency = currency;
+            this.summaryHtml = summaryHtml;
+            this.annualSchedule = annualSchedule;
+            this.monthlySchedule = monthlySchedule;
         }
     }
 
-    private void displayResults(InvestmentResult result, BigDecimal formattedEndBalance, 
-                              BigDecimal formattedTotalContributions, BigDecimal formattedTotalInterest) {
-        String currencySymbol = getCurrencySymbol(selectedCurrency);
+    // Runs on the worker thread: touches no Swing component
+    private static RenderedResult render(InvestmentResult result, String currency) {
+        String currencySymbol = getCurrencySymbol(currency);
+        String summaryHtml = generateSummaryHtml(result, currency);
+        String annual = generateAnnualSchedule(result, currencySymbol);
+        String monthly = generateMonthlySchedule(result, currencySymbol);
+        return new RenderedResult(result, currency, summaryHtml, annual, monthly);
+    }
+
+    private void showBusy() {
+        resultsArea.setText("<html><body style='font-family: Arial, sans-serif;'>"
+            + "<div style='padding: 10px; font-size: 16px; color: #2c5aa0;'>Calculating&hellip;</div>"
+            + "</body></html>");
+        resultsArea.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+    }
+
+    // Runs on the EDT, and only for the latest request
+    private void showCalculation(RenderedResult rendered) {
+        resultsArea.setCursor(Cursor.getDefaultCursor());
+        selectedCurrency = rendered.currency;
+        // Store last result for export operations
+        lastResult = rendered.result;
+        
+        resultsArea.setText(rendered.summaryHtml);
+        // Scroll to top to ensure results are visible
+        resultsArea.setCaretPosition(0);
+        
+        updateChart(rendered.result);
+        updatePieChart(rendered.result);
+        updateSchedules(rendered);
+    }
+
+    private void showCalculationError(Exception e) {
+        resultsArea.setCursor(Cursor.getDefaultCursor());
+        resultsArea.setText("");
+        JOptionPane.showMessageDialog(this, 
+            "Error calculating investment: " + e.getMessage(), 
+            "Calculation Error", 
+            JOptionPane.ERROR_MESSAGE);
+        e.printStackTrace();
+    }
+
+    private static String generateSummaryHtml(InvestmentResult result, String currency) {
+        String currencySymbol = getCurrencySymbol(currency);
+        // Format end balance to 2 decimal places for display
+        BigDecimal formattedEndBalance = result.getEndBalance().setScale(2, RoundingMode.HALF_UP);
+        BigDecimal formattedTotalContributions = result.getTotalContributions().setScale(2, RoundingMode.HALF_UP);
+        BigDecimal formattedTotalInterest = result.getTotalInterest().setScale(2, RoundingMode.HALF_UP);
         StringBuilder sb = new StringBuilder();
         
         // Investment results at the very top of the summary area
@@ -666,7 +721,7 @@ public class InvestmentCalculator extends JFrame {
         sb.append(String.format("<div style='margin-bottom: 3px;'>Compounding Frequency: %s</div>", result.getCompoundingFrequency()));
         sb.append(String.format("<div style='margin-bottom: 3px;'>Annual Return Rate: %.2f%%</div>", result.getAnnualReturnRate()));
         sb.append(String.format("<div style='margin-bottom: 3px;'>Number of Years: %d</div>", result.getYears()));
-        sb.append(String.format("<div style='margin-bottom: 3px;'>Currency: %s</div>", selectedCurrency));
+        sb.append(String.format("<div style='margin-bottom: 3px;'>Currency: %s</div>", currency));
         
         // Add note about negative contributions
         if (result.getTotalContributions().subtract(result.getStartingAmount()).compareTo(BigDecimal.ZERO) < 0) {
@@ -678,13 +733,10 @@ public class InvestmentCalculator extends JFrame {
         sb.append("</div>");
         
         sb.append("</body></html>");
-        
-        resultsArea.setText(sb.toString());
-        // Scroll to top to ensure results are visible
-        resultsArea.setCaretPosition(0);
+        return sb.toString();
     }
     
-    private String getCurrencySymbol(String currency) {
+    private static String getCurrencySymbol(String currency) {
         switch (currency.trim()) {
             case "USD": return "$";
             case "EUR": return "€";
@@ -704,43 +756,38 @@ public class InvestmentCalculator extends JFrame {
         pieChartPanelComponent.updateChart(result, selectedCurrency);
     }
 
-    private void updateSchedules(InvestmentResult result) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                scheduleTabbedPane.removeAll();
-                
-                // Annual Schedule
-                JTextArea annualSchedule = new JTextArea();
-                annualSchedule.setEditable(false);
-                annualSchedule.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11));
-                annualSchedule.setText(generateAnnualSchedule(result));
-                scheduleTabbedPane.addTab("Annual Schedule", new JScrollPane(annualSchedule));
-                
-                // Monthly Schedule - Show ALL months
-                JTextArea monthlySchedule = new JTextArea();
-                monthlySchedule.setEditable(false);
-                monthlySchedule.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 10));
-                monthlySchedule.setText(generateMonthlySchedule(result));
-                scheduleTabbedPane.addTab("Monthly Schedule", new JScrollPane(monthlySchedule));
-                
-                // Force UI update
-                scheduleTabbedPane.revalidate();
-                scheduleTabbedPane.repaint();
-                
-            } catch (Exception e) {
-                e.printStackTrace();
-                JOptionPane.showMessageDialog(this, 
-                    "Error generating schedule: " + e.getMessage(), 
-                    "Schedule Error", 
-                    JOptionPane.ERROR_MESSAGE);
-            }
-        });
+    private void updateSchedules(RenderedResult rendered) {
+        scheduleTabbedPane.removeAll();
+        
+        // Annual Schedule
+        JTextArea annualSchedule = new JTextArea();
+        annualSchedule.setEditable(false);
+        annualSchedule.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 11));
+        annualSchedule.setText(rendered.annualSchedule);
+        scheduleTabbedPane.addTab("Annual Schedule", new JScrollPane(annualSchedule));
+        
+        // Monthly Schedule - Show ALL months
+        JTextArea monthlySchedule = new JTextArea();
+        monthlySchedule.setEditable(false);
+        monthlySchedule.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 10));
+        monthlySchedule.setText(rendered.monthlySchedule);
+        scheduleTabbedPane.addTab("Monthly Schedule", new JScrollPane(monthlySchedule));
+        
+        // Force UI update
+        scheduleTabbedPane.revalidate();
+        scheduleTabbedPane.repaint();
+    }
+
+    // Stops schedule formatting early once the request is cancelled
+    private static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException();
+        }
     }
 
     // Fix the annual schedule formatting in InvestmentCalculator.java
-    private String generateAnnualSchedule(InvestmentResult result) {
+    private static String generateAnnualSchedule(InvestmentResult result, String currencySymbol) {
         StringBuilder sb = new StringBuilder();
-        String currencySymbol = getCurrencySymbol(selectedCurrency);
         
         // Update column header based on whether we have contributions or withdrawals
         boolean hasWithdrawals = result.getTotalContributions().subtract(result.getStartingAmount()).compareTo(BigDecimal.ZERO) < 0;
@@ -750,22 +797,21 @@ public class InvestmentCalculator extends JFrame {
             "Year", "Start Balance", contributionLabel, "Interest", "End Balance"));
         sb.append("-".repeat(90)).append("\n");
         
-        List<YearlyData> yearlyData = result.getYearlyData();
-        for (YearlyData data : yearlyData) {
+        result.yearlyStream().forEach(data -> {
+            checkCancelled();
             sb.append(String.format("%-6d %s%-17.2f %s%-17.2f %s%-17.2f %s%-17.2f%n",
                 data.getYear(), 
                 currencySymbol, data.getStartBalance().setScale(2, RoundingMode.HALF_UP), 
                 currencySymbol, data.getContributions().setScale(2, RoundingMode.HALF_UP),
                 currencySymbol, data.getInterestEarned().setScale(2, RoundingMode.HALF_UP), 
                 currencySymbol, data.getEndBalance().setScale(2, RoundingMode.HALF_UP)));
-        }
+        });
         
         return sb.toString();
     }
 
-    private String generateMonthlySchedule(InvestmentResult result) {
+    private static String generateMonthlySchedule(InvestmentResult result, String currencySymbol) {
         StringBuilder sb = new StringBuilder();
-        String currencySymbol = getCurrencySymbol(selectedCurrency);
         
         // Update column header based on whether we have contributions or withdrawals
         boolean hasWithdrawals = result.getTotalContributions().subtract(result.getStartingAmount()).compareTo(BigDecimal.ZERO) < 0;
@@ -775,22 +821,20 @@ public class InvestmentCalculator extends JFrame {
             "Month", "Start Balance", contributionLabel, "Interest", "End Balance"));
         sb.append("-".repeat(80)).append("\n");
         
-        List<MonthlyData> monthlyData = result.getMonthlyData();
-        
-        // Show ALL monthly data - no limit
-        for (int i = 0; i < monthlyData.size(); i++) {
-            MonthlyData data = monthlyData.get(i);
+        // Show ALL monthly data - no limit. Rows are streamed so lazy schedules are never collected.
+        result.monthlyStream().forEach(data -> {
+            checkCancelled();
             sb.append(String.format("%-15s %s%-14.2f %s%-14.2f %s%-14.2f %s%-14.2f%n",
                 data.getMonth(),
                 currencySymbol, data.getStartBalance().setScale(2, RoundingMode.HALF_UP), 
                 currencySymbol, data.getContributions().setScale(2, RoundingMode.HALF_UP),
                 currencySymbol, data.getInterestEarned().setScale(2, RoundingMode.HALF_UP), 
                 currencySymbol, data.getEndBalance().setScale(2, RoundingMode.HALF_UP)));
-        }
+        });
         
         // Add summary at the end
         sb.append("-".repeat(80)).append("\n");
-        sb.append(String.format("Total months: %d%n", monthlyData.size()));
+        sb.append(String.format("Total months: %d%n", result.getMonthlyRowCount()));
         
         return sb.toString();
     }
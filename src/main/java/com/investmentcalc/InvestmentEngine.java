@@ -0,0 +1,40 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * Common contract for the calculation engines.
+ *
+ * Every implementation follows the month-by-month model of FinalInvestmentEngine:
+ * the same monthly multiplier, the same contribution months for 1, 4 and 12
+ * contributions per year (and the even monthly spread for any other value),
+ * and the same beginning/end-of-period timing.
+ */
+public interface InvestmentEngine {
+
+    InvestmentResult calculateInvestment(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning);
+
+    /**
+     * Same as the typed overload, for a label such as "Monthly" (case-insensitive).
+     *
+     * @throws IllegalArgumentException for an unknown label (see CompoundingFrequency.parse)
+     */
+    default InvestmentResult calculateInvestment(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            String compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+        return calculateInvestment(startingAmount, years, annualReturnRate, CompoundingFrequency.parse(compoundingFrequency),
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+}
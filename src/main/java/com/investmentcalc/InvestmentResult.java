@@ -2,6 +2,7 @@ package com.investmentcalc;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Data class to hold investment calculation results
@@ -10,7 +11,7 @@ public class InvestmentResult {
     private final BigDecimal startingAmount;
     private final int years;
     private final BigDecimal annualReturnRate;
-    private final String compoundingFrequency;
+    private final CompoundingFrequency compoundingFrequency;
     private final BigDecimal endBalance;
     private final BigDecimal totalContributions;
     private final BigDecimal totalInterest;
@@ -26,6 +27,19 @@ public class InvestmentResult {
                           BigDecimal totalInterest,
                           List<MonthlyData> monthlyData,
                           List<YearlyData> yearlyData) {
+        this(startingAmount, years, annualReturnRate, CompoundingFrequency.fromLabel(compoundingFrequency),
+             endBalance, totalContributions, totalInterest, monthlyData, yearlyData);
+    }
+
+    public InvestmentResult(BigDecimal startingAmount,
+                          int years,
+                          BigDecimal annualReturnRate,
+                          CompoundingFrequency compoundingFrequency,
+                          BigDecimal endBalance,
+                          BigDecimal totalContributions,
+                          BigDecimal totalInterest,
+                          List<MonthlyData> monthlyData,
+                          List<YearlyData> yearlyData) {
         this.startingAmount = startingAmount;
         this.years = years;
         this.annualReturnRate = annualReturnRate;
@@ -41,10 +55,33 @@ public class InvestmentResult {
     public BigDecimal getStartingAmount() { return startingAmount; }
     public int getYears() { return years; }
     public BigDecimal getAnnualReturnRate() { return annualReturnRate; }
-    public String getCompoundingFrequency() { return compoundingFrequency; }
+    /** Display label of the compounding frequency, e.g. "Monthly". */
+    public String getCompoundingFrequency() { return compoundingFrequency.getLabel(); }
+    public CompoundingFrequency getFrequency() { return compoundingFrequency; }
     public BigDecimal getEndBalance() { return endBalance; }
     public BigDecimal getTotalContributions() { return totalContributions; }
     public BigDecimal getTotalInterest() { return totalInterest; }
     public List<MonthlyData> getMonthlyData() { return monthlyData; }
     public List<YearlyData> getYearlyData() { return yearlyData; }
+
+    /**
+     * Monthly rows in order. Lazily computed results generate the rows while the
+     * stream is consumed instead of holding a list.
+     */
+    public Stream<MonthlyData> monthlyStream() {
+        return monthlyData == null ? Stream.empty() : monthlyData.stream();
+    }
+
+    /**
+     * Yearly rows in order; see monthlyStream().
+     */
+    public Stream<YearlyData> yearlyStream() {
+        return yearlyData == null ? Stream.empty() : yearlyData.stream();
+    }
+
+    /** Number of rows monthlyStream() will produce, without producing them. */
+    public int getMonthlyRowCount() { return monthlyData == null ? 0 : monthlyData.size(); }
+
+    /** Number of rows yearlyStream() will produce, without producing them. */
+    public int getYearlyRowCount() { return yearlyData == null ? 0 : yearlyData.size(); }
 }
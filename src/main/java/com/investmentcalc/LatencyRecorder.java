@@ -0,0 +1,48 @@
+package com.investmentcalc;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Request latencies for CalculatorServer: keeps the most recent SAMPLE_SIZE durations in
+ * a ring and computes nearest-rank percentiles over them on demand. Recording is a
+ * single atomic increment and store, so it never blocks request threads.
+ */
+final class LatencyRecorder {
+
+    static final int SAMPLE_SIZE = 16_384;
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_SIZE);
+    private final AtomicLong count = new AtomicLong();
+
+    void record(long nanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % SAMPLE_SIZE), nanos);
+    }
+
+    /** Requests recorded since the server started. */
+    long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Nearest-rank percentiles in nanoseconds over the retained samples, one per
+     * requested percent; zeros when nothing was recorded.
+     */
+    long[] percentiles(double... percents) {
+        int size = (int) Math.min(count.get(), SAMPLE_SIZE);
+        long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+
+        long[] result = new long[percents.length];
+        for (int p = 0; p < percents.length && size > 0; p++) {
+            int rank = (int) Math.ceil(percents[p] / 100.0 * size);
+            result[p] = sorted[Math.min(size - 1, Math.max(0, rank - 1))];
+        }
+        return result;
+    }
+}
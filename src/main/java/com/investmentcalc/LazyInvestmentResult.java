@@ -0,0 +1,86 @@
+package com.investmentcalc;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * InvestmentResult whose schedules are generated on demand.
+ *
+ * Until a list is asked for, nothing is stored apart from the totals: every call to
+ * monthlyStream() or yearlyStream() runs a fresh single pass of the monthly loop.
+ * getMonthlyData() and getYearlyData() materialize the schedule once and keep it, so
+ * repeated getter calls are cheap; the streams then read the kept list too.
+ *
+ * The totals come from calculateSummary (closed form at DECIMAL128, rounded to scale
+ * 10) while the rows are stepped month by month at scale 10, so the last row's end
+ * balance can differ from getEndBalance() by rounding in the last digits: well under
+ * 0.000001 for horizons up to 100 years, never visible at cents.
+ */
+final class LazyInvestmentResult extends InvestmentResult {
+    private final Supplier<MonthlyScheduleStepper> stepperFactory;
+    // Set on the first getter call; racing callers may both build it, with equal rows
+    private volatile List<MonthlyData> monthlyData;
+    private volatile List<YearlyData> yearlyData;
+
+    LazyInvestmentResult(InvestmentResult summary, Supplier<MonthlyScheduleStepper> stepperFactory) {
+        super(summary.getStartingAmount(),
+              summary.getYears(),
+              summary.getAnnualReturnRate(),
+              summary.getFrequency(),
+              summary.getEndBalance(),
+              summary.getTotalContributions(),
+              summary.getTotalInterest(),
+              null,
+              null);
+        this.stepperFactory = stepperFactory;
+    }
+
+    @Override
+    public Stream<MonthlyData> monthlyStream() {
+        List<MonthlyData> rows = monthlyData;
+        if (rows != null) return rows.stream();
+        return StreamSupport.stream(ScheduleSpliterators.monthly(stepperFactory.get()), false);
+    }
+
+    @Override
+    public Stream<YearlyData> yearlyStream() {
+        List<YearlyData> rows = yearlyData;
+        if (rows != null) return rows.stream();
+        return StreamSupport.stream(
+            ScheduleSpliterators.yearly(stepperFactory.get(), getStartingAmount()), false);
+    }
+
+    @Override
+    public List<MonthlyData> getMonthlyData() {
+        List<MonthlyData> rows = monthlyData;
+        if (rows == null) {
+            rows = Collections.unmodifiableList(monthlyStream().collect(Collectors.toList()));
+            monthlyData = rows;
+        }
+        return rows;
+    }
+
+    @Override
+    public List<YearlyData> getYearlyData() {
+        List<YearlyData> rows = yearlyData;
+        if (rows == null) {
+            rows = Collections.unmodifiableList(yearlyStream().collect(Collectors.toList()));
+            yearlyData = rows;
+        }
+        return rows;
+    }
+
+    @Override
+    public int getMonthlyRowCount() {
+        return getYears() * 12;
+    }
+
+    @Override
+    public int getYearlyRowCount() {
+        return getYears();
+    }
+}
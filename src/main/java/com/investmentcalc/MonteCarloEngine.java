@@ -0,0 +1,268 @@
+package com.investmentcalc;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stochastic counterpart of the fixed-rate engines.
+ *
+ * Each month's gross return is drawn from a lognormal distribution whose annual
+ * arithmetic mean and volatility are the given percentages; contributions follow the
+ * same months and beginning/end-of-period timing as FinalInvestmentEngine.
+ *
+ * Paths are grouped into fixed blocks of PATHS_PER_BLOCK. Every block gets its own
+ * SplittableRandom, split from the seeded root in block order before any work starts,
+ * so the numbers drawn for a path never depend on which thread runs it: the same seed
+ * gives identical results for any pool size. Within a block the paths advance month by
+ * month in lockstep through a BatchKernel (SIMD lanes where the Vector API is
+ * available); the kernel choice does not change results.
+ *
+ * Year-end balances are kept as float (about 7 significant digits) to compute exact
+ * nearest-rank percentiles, i.e. 4 * years * paths bytes during the run.
+ */
+public class MonteCarloEngine {
+
+    /** Paths simulated sequentially from one random stream. */
+    static final int PATHS_PER_BLOCK = 1024;
+
+    private final ForkJoinPool pool;
+    private final BatchKernel kernel;
+
+    public MonteCarloEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public MonteCarloEngine(ForkJoinPool pool) {
+        this(pool, BatchKernels.preferred());
+    }
+
+    MonteCarloEngine(ForkJoinPool pool, BatchKernel kernel) {
+        this.pool = pool;
+        this.kernel = kernel;
+    }
+
+    public MonteCarloResult simulate(
+            double startingAmount,
+            int years,
+            double expectedAnnualReturn,     // as percent, e.g. 7 for 7%
+            double annualVolatility,         // as percent, e.g. 15 for 15%
+            double additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning,
+            int paths,
+            long seed,
+            double targetBalance) {
+
+        if (paths <= 0) throw new IllegalArgumentException("Paths must be positive: " + paths);
+        if (years < 0) throw new IllegalArgumentException("Years must not be negative: " + years);
+        if (annualVolatility < 0) throw new IllegalArgumentException("Volatility must not be negative: " + annualVolatility);
+        if (expectedAnnualReturn <= -100) throw new IllegalArgumentException("Expected return must be above -100%");
+
+        long startNanos = System.nanoTime();
+
+        // Lognormal parameters matching the arithmetic mean and volatility of the annual gross return
+        double mean = 1.0 + expectedAnnualReturn / 100.0;
+        double volatility = annualVolatility / 100.0;
+        double logVariance = Math.log(1.0 + (volatility * volatility) / (mean * mean));
+        double logMean = Math.log(mean) - logVariance / 2.0;
+
+        PathModel model = new PathModel(
+            startingAmount,
+            years * 12,
+            logMean / 12.0,
+            Math.sqrt(logVariance / 12.0),
+            FinalInvestmentEngine.contributionPerEvent(additionalContribution, contributionsPerYear),
+            FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear),
+            contributeAtBeginning,
+            targetBalance
+        );
+
+        int blocks = (paths + PATHS_PER_BLOCK - 1) / PATHS_PER_BLOCK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[blocks];
+        for (int b = 0; b < blocks; b++) {
+            streams[b] = root.split();
+        }
+
+        float[][] yearEnd = new float[years][paths];
+        long[] reached = new long[blocks];
+        pool.invoke(new BlockTask(kernel, model, streams, yearEnd, reached, paths, 0, blocks));
+
+        double[] p5 = new double[years];
+        double[] p50 = new double[years];
+        double[] p95 = new double[years];
+        pool.invoke(new PercentileTask(yearEnd, p5, p50, p95, 0, years));
+
+        long totalReached = Arrays.stream(reached).sum();
+        return new MonteCarloResult(
+            years,
+            paths,
+            p5,
+            p50,
+            p95,
+            targetBalance,
+            (double) totalReached / paths,
+            System.nanoTime() - startNanos
+        );
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    static double percentile(float[] sorted, double percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    // Immutable per-run inputs shared by all blocks
+    private static final class PathModel {
+        final double startingAmount;
+        final int months;
+        final double logMeanMonthly;
+        final double logStdDevMonthly;
+        final double contributionPerEvent;
+        final int interval;
+        final boolean contributeAtBeginning;
+        final double targetBalance;
+
+        PathModel(double startingAmount, int months, double logMeanMonthly, double logStdDevMonthly,
+                  double contributionPerEvent, int interval, boolean contributeAtBeginning, double targetBalance) {
+            this.startingAmount = startingAmount;
+            this.months = months;
+            this.logMeanMonthly = logMeanMonthly;
+            this.logStdDevMonthly = logStdDevMonthly;
+            this.contributionPerEvent = contributionPerEvent;
+            this.interval = interval;
+            this.contributeAtBeginning = contributeAtBeginning;
+            this.targetBalance = targetBalance;
+        }
+
+        /**
+         * Simulate every path of one block; returns how many reached the target.
+         * Paths advance month by month in lockstep, one kernel lane per path. Each month
+         * draws one return per path, in path order, from the block's random stream.
+         */
+        long simulateBlock(BatchKernel kernel, SplittableRandom rng, float[][] yearEnd, int firstPath, int endPath) {
+            int count = endPath - firstPath;
+            // Reused across blocks on the same worker; only the first count elements are used
+            double[] balances = ScratchBuffers.doubles(0, count);
+            double[] growth = ScratchBuffers.doubles(1, count);
+            Arrays.fill(balances, 0, count, startingAmount);
+
+            double spare = 0.0;
+            boolean hasSpare = false;
+            for (int month = 0; month < months; month++) {
+                for (int p = 0; p < count; p++) {
+                    // Standard normal draw, Marsaglia polar method (two values per accepted pair)
+                    double z;
+                    if (hasSpare) {
+                        z = spare;
+                        hasSpare = false;
+                    } else {
+                        double u;
+                        double v;
+                        double s;
+                        do {
+                            u = 2.0 * rng.nextDouble() - 1.0;
+                            v = 2.0 * rng.nextDouble() - 1.0;
+                            s = u * u + v * v;
+                        } while (s >= 1.0 || s == 0.0);
+                        double factor = Math.sqrt(-2.0 * Math.log(s) / s);
+                        z = u * factor;
+                        spare = v * factor;
+                        hasSpare = true;
+                    }
+                    growth[p] = Math.exp(logMeanMonthly + logStdDevMonthly * z);
+                }
+
+                double c = (month % interval == 0) ? contributionPerEvent : 0.0;
+                kernel.step(balances, growth, c, contributeAtBeginning, count);
+
+                if ((month + 1) % 12 == 0) {
+                    float[] year = yearEnd[month / 12];
+                    for (int p = 0; p < count; p++) {
+                        year[firstPath + p] = (float) balances[p];
+                    }
+                }
+            }
+
+            long reached = 0;
+            for (int p = 0; p < count; p++) {
+                if (balances[p] >= targetBalance) reached++;
+            }
+            return reached;
+        }
+    }
+
+    private static final class BlockTask extends RecursiveAction {
+        private final BatchKernel kernel;
+        private final PathModel model;
+        private final SplittableRandom[] streams;
+        private final float[][] yearEnd;
+        private final long[] reached;
+        private final int paths;
+        private final int fromBlock;
+        private final int toBlock;
+
+        BlockTask(BatchKernel kernel, PathModel model, SplittableRandom[] streams, float[][] yearEnd, long[] reached,
+                  int paths, int fromBlock, int toBlock) {
+            this.kernel = kernel;
+            this.model = model;
+            this.streams = streams;
+            this.yearEnd = yearEnd;
+            this.reached = reached;
+            this.paths = paths;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBlock - fromBlock == 1) {
+                int first = fromBlock * PATHS_PER_BLOCK;
+                int end = Math.min(paths, first + PATHS_PER_BLOCK);
+                reached[fromBlock] = model.simulateBlock(kernel, streams[fromBlock], yearEnd, first, end);
+                return;
+            }
+            int mid = (fromBlock + toBlock) >>> 1;
+            invokeAll(new BlockTask(kernel, model, streams, yearEnd, reached, paths, fromBlock, mid),
+                      new BlockTask(kernel, model, streams, yearEnd, reached, paths, mid, toBlock));
+        }
+    }
+
+    private static final class PercentileTask extends RecursiveAction {
+        private final float[][] yearEnd;
+        private final double[] p5;
+        private final double[] p50;
+        private final double[] p95;
+        private final int fromYear;
+        private final int toYear;
+
+        PercentileTask(float[][] yearEnd, double[] p5, double[] p50, double[] p95, int fromYear, int toYear) {
+            this.yearEnd = yearEnd;
+            this.p5 = p5;
+            this.p50 = p50;
+            this.p95 = p95;
+            this.fromYear = fromYear;
+            this.toYear = toYear;
+        }
+
+        @Override
+        protected void compute() {
+            if (toYear - fromYear <= 1) {
+                for (int y = fromYear; y < toYear; y++) {
+                    float[] values = yearEnd[y];
+                    Arrays.sort(values);
+                    p5[y] = percentile(values, 5);
+                    p50[y] = percentile(values, 50);
+                    p95[y] = percentile(values, 95);
+                    yearEnd[y] = null; // release each year once summarised
+                }
+                return;
+            }
+            int mid = (fromYear + toYear) >>> 1;
+            invokeAll(new PercentileTask(yearEnd, p5, p50, p95, fromYear, mid),
+                      new PercentileTask(yearEnd, p5, p50, p95, mid, toYear));
+        }
+    }
+}
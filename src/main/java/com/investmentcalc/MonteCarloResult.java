@@ -0,0 +1,45 @@
+package com.investmentcalc;
+
+/**
+ * Outcome distribution of a Monte Carlo run: end-balance percentiles for each year
+ * (index 0 is the end of year 1) and the probability of reaching the target.
+ */
+public class MonteCarloResult {
+    private final int years;
+    private final int paths;
+    private final double[] p5;
+    private final double[] p50;
+    private final double[] p95;
+    private final double targetBalance;
+    private final double probabilityOfReachingTarget;
+    private final long elapsedNanos;
+
+    public MonteCarloResult(int years,
+                            int paths,
+                            double[] p5,
+                            double[] p50,
+                            double[] p95,
+                            double targetBalance,
+                            double probabilityOfReachingTarget,
+                            long elapsedNanos) {
+        this.years = years;
+        this.paths = paths;
+        this.p5 = p5;
+        this.p50 = p50;
+        this.p95 = p95;
+        this.targetBalance = targetBalance;
+        this.probabilityOfReachingTarget = probabilityOfReachingTarget;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Getters
+    public int getYears() { return years; }
+    public int getPaths() { return paths; }
+    public double[] getP5() { return p5; }
+    public double[] getP50() { return p50; }
+    public double[] getP95() { return p95; }
+    public double getTargetBalance() { return targetBalance; }
+    /** Share of paths whose final end balance is at least the target. */
+    public double getProbabilityOfReachingTarget() { return probabilityOfReachingTarget; }
+    public long getElapsedNanos() { return elapsedNanos; }
+}
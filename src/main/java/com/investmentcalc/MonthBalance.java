@@ -0,0 +1,42 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * State of a schedule at one month, as answered by BalanceQuery. Values are rounded
+ * to the same scale as the MonthlyData rows of calculateInvestment.
+ */
+public class MonthBalance {
+    private final int month;
+    private final BigDecimal startBalance;
+    private final BigDecimal contributions;
+    private final BigDecimal interestEarned;
+    private final BigDecimal endBalance;
+    private final BigDecimal contributionsToDate;
+    private final BigDecimal interestToDate;
+
+    public MonthBalance(int month, BigDecimal startBalance, BigDecimal contributions, BigDecimal interestEarned,
+                        BigDecimal endBalance, BigDecimal contributionsToDate, BigDecimal interestToDate) {
+        this.month = month;
+        this.startBalance = startBalance;
+        this.contributions = contributions;
+        this.interestEarned = interestEarned;
+        this.endBalance = endBalance;
+        this.contributionsToDate = contributionsToDate;
+        this.interestToDate = interestToDate;
+    }
+
+    // Getters
+    /** One-based month number; month 12 is "Year 1, Month 12". */
+    public int getMonth() { return month; }
+    public BigDecimal getStartBalance() { return startBalance; }
+    /** Contribution paid in this month. */
+    public BigDecimal getContributions() { return contributions; }
+    /** Interest earned in this month. */
+    public BigDecimal getInterestEarned() { return interestEarned; }
+    public BigDecimal getEndBalance() { return endBalance; }
+    /** Starting amount plus every contribution up to and including this month. */
+    public BigDecimal getContributionsToDate() { return contributionsToDate; }
+    /** Interest earned up to and including this month. */
+    public BigDecimal getInterestToDate() { return interestToDate; }
+}
@@ -0,0 +1,36 @@
+package com.investmentcalc;
+
+/**
+ * "Year N, Month M" labels for zero-based month indexes.
+ *
+ * Labels for the first TABLE_YEARS years are built once and shared by every
+ * schedule; longer horizons build the rest on demand.
+ */
+final class MonthLabels {
+
+    /** Years covered by the shared table. */
+    static final int TABLE_YEARS = 100;
+
+    private MonthLabels() {}
+
+    static String of(int monthIndex) {
+        if (monthIndex < 0) throw new IllegalArgumentException("Month index must not be negative: " + monthIndex);
+        if (monthIndex < Table.LABELS.length) return Table.LABELS[monthIndex];
+        return build(monthIndex);
+    }
+
+    private static String build(int monthIndex) {
+        return "Year " + (monthIndex / 12 + 1) + ", Month " + (monthIndex % 12 + 1);
+    }
+
+    // Initialised on first use
+    private static final class Table {
+        static final String[] LABELS = new String[TABLE_YEARS * 12];
+
+        static {
+            for (int i = 0; i < LABELS.length; i++) {
+                LABELS[i] = build(i);
+            }
+        }
+    }
+}
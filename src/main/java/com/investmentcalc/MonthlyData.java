@@ -6,7 +6,8 @@ import java.math.BigDecimal;
  * Data class to hold monthly investment data
  */
 public class MonthlyData {
-    private final String month;
+    private final String month;      // explicit label, or null to derive it from monthIndex
+    private final int monthIndex;     // zero-based, or -1 when constructed with a label
     private final BigDecimal startBalance;
     private final BigDecimal contributions;
     private final BigDecimal interestEarned;
@@ -15,6 +16,23 @@ public class MonthlyData {
     public MonthlyData(String month, BigDecimal startBalance, BigDecimal contributions, 
                       BigDecimal interestEarned, BigDecimal endBalance) {
         this.month = month;
+        this.monthIndex = -1;
+        this.startBalance = startBalance;
+        this.contributions = contributions;
+        this.interestEarned = interestEarned;
+        this.endBalance = endBalance;
+    }
+    
+    /**
+     * Row for zero-based month {@code monthIndex} of a schedule. The "Year N, Month M"
+     * label is looked up from a shared table when getMonth() is called instead of being
+     * formatted for every row.
+     */
+    public MonthlyData(int monthIndex, BigDecimal startBalance, BigDecimal contributions,
+                      BigDecimal interestEarned, BigDecimal endBalance) {
+        if (monthIndex < 0) throw new IllegalArgumentException("Month index must not be negative: " + monthIndex);
+        this.month = null;
+        this.monthIndex = monthIndex;
         this.startBalance = startBalance;
         this.contributions = contributions;
         this.interestEarned = interestEarned;
@@ -22,7 +40,9 @@ public class MonthlyData {
     }
     
     // Getters
-    public String getMonth() { return month; }
+    public String getMonth() { return month != null ? month : MonthLabels.of(monthIndex); }
+    /** Zero-based month within the schedule, or -1 for rows built with an explicit label. */
+    public int getMonthIndex() { return monthIndex; }
     public BigDecimal getStartBalance() { return startBalance; }
     public BigDecimal getContributions() { return contributions; }
     public BigDecimal getInterestEarned() { return interestEarned; }
@@ -0,0 +1,188 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The month-by-month loop of FinalInvestmentEngine, one month per call to next().
+ *
+ * Holds only the running balance between months, so a schedule can be produced
+ * while it is consumed (see ScheduleSpliterators) instead of being collected first.
+ * AdjustmentStages, if any, run in order at the end of each month; the row's interest
+ * is then net of them and their running totals are kept per stage.
+ * Not thread-safe; create one stepper per traversal.
+ */
+final class MonthlyScheduleStepper {
+    private final BigDecimal additionalContribution;
+    private final BigDecimal contributionAmountPerEvent;
+    private final BigDecimal monthlyInterestFactor;
+    private final int contributionsPerYear;
+    private final boolean contributeAtBeginning;
+    private final int totalMonths;
+    private final AdjustmentStage[] stages;
+    private final BigDecimal[] adjustmentTotals; // displayed amounts, per stage
+
+    private BigDecimal currentBalance;
+    private int month; // months already produced
+
+    MonthlyScheduleStepper(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+        this(startingAmount, years, annualReturnRate, compoundingFrequency, additionalContribution,
+             contributionsPerYear, contributeAtBeginning, Collections.emptyList());
+    }
+
+    MonthlyScheduleStepper(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,
+            CompoundingFrequency compoundingFrequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning,
+            List<AdjustmentStage> stages) {
+
+        this.currentBalance = startingAmount;
+        this.stages = stages.toArray(new AdjustmentStage[0]);
+        this.adjustmentTotals = new BigDecimal[this.stages.length];
+        Arrays.fill(adjustmentTotals, BigDecimal.ZERO);
+        this.additionalContribution = additionalContribution;
+        this.contributionsPerYear = contributionsPerYear;
+        this.contributeAtBeginning = contributeAtBeginning;
+
+        // contribution per event (e.g. if contributionsPerYear=12, this is monthly amount)
+        BigDecimal perEvent = BigDecimal.ZERO;
+        if (contributionsPerYear > 0) {
+            perEvent = additionalContribution
+                    .divide(BigDecimal.valueOf(contributionsPerYear), 20, RoundingMode.HALF_UP);
+        }
+        this.contributionAmountPerEvent = perEvent;
+
+        this.totalMonths = years * 12;
+
+        BigDecimal monthlyMultiplier = BigDecimal.valueOf(compoundingFrequency.monthlyMultiplier(annualReturnRate));
+
+        // monthly interest factor = monthlyMultiplier - 1
+        this.monthlyInterestFactor = monthlyMultiplier.subtract(BigDecimal.ONE);
+    }
+
+    int getTotalMonths() {
+        return totalMonths;
+    }
+
+    int getMonthsProduced() {
+        return month;
+    }
+
+    /** Total taken out by each adjustment stage so far, in stage order, summed from the displayed amounts. */
+    BigDecimal[] getAdjustmentTotals() {
+        return adjustmentTotals.clone();
+    }
+
+    /** Unrounded balance after the months produced so far. */
+    BigDecimal getCurrentBalance() {
+        return currentBalance;
+    }
+
+    /**
+     * Continue from a state saved by another stepper over the same inputs: after
+     * {@code monthsProduced} months the unrounded balance was {@code balance}.
+     */
+    void resumeFrom(int monthsProduced, BigDecimal balance) {
+        if (monthsProduced < 0 || monthsProduced > totalMonths) {
+            throw new IllegalArgumentException("Cannot resume at month " + monthsProduced + " of " + totalMonths);
+        }
+        this.month = monthsProduced;
+        this.currentBalance = balance;
+    }
+
+    boolean hasNext() {
+        return month < totalMonths;
+    }
+
+    /**
+     * Advance one month and return its display row.
+     * For standard frequencies (1,4,12) contributions use explicit months; otherwise
+     * they are distributed evenly per month.
+     */
+    MonthlyData next() {
+        month++;
+
+        BigDecimal monthStartBalance = currentBalance;
+        BigDecimal thisMonthContributions = BigDecimal.ZERO;
+
+        // Determine contributions this month
+        if (contributionsPerYear > 0 || additionalContribution.compareTo(BigDecimal.ZERO) != 0) {
+            switch (contributionsPerYear) {
+                case 1: // annual -> assumed in month 1 (January)
+                    if ((month - 1) % 12 == 0) {
+                        thisMonthContributions = contributionAmountPerEvent;
+                    }
+                    break;
+                case 4: // quarterly -> months 1,4,7,10
+                    int monthInYear = ((month - 1) % 12) + 1;
+                    if (monthInYear == 1 || monthInYear == 4 || monthInYear == 7 || monthInYear == 10) {
+                        thisMonthContributions = contributionAmountPerEvent;
+                    }
+                    break;
+                case 12: // monthly
+                    thisMonthContributions = contributionAmountPerEvent;
+                    break;
+                default:
+                    // distribute evenly across 12 months (for nonstandard contributed-per-year values)
+                    thisMonthContributions = additionalContribution.divide(BigDecimal.valueOf(12), 20, RoundingMode.HALF_UP);
+                    break;
+            }
+        }
+
+        // Handle both positive contributions and negative withdrawals
+        if (contributeAtBeginning && thisMonthContributions.compareTo(BigDecimal.ZERO) != 0) {
+            currentBalance = currentBalance.add(thisMonthContributions); // This will subtract if negative
+        }
+
+        // Calculate interest for the month using the discrete compounding monthly factor.
+        // For begin-of-period semantics the interest base includes this month's contribution;
+        // end-of-period contributions earn no interest during the month.
+        BigDecimal thisMonthInterest;
+        if (contributeAtBeginning) {
+            BigDecimal beginBalanceForInterest = monthStartBalance.add(thisMonthContributions);
+            thisMonthInterest = beginBalanceForInterest.multiply(monthlyInterestFactor).setScale(20, RoundingMode.HALF_UP);
+        } else {
+            thisMonthInterest = monthStartBalance.multiply(monthlyInterestFactor).setScale(20, RoundingMode.HALF_UP);
+        }
+
+        // Add computed interest to current balance
+        currentBalance = currentBalance.add(thisMonthInterest);
+
+        // Handle end-of-period contributions/withdrawals
+        if (!contributeAtBeginning && thisMonthContributions.compareTo(BigDecimal.ZERO) != 0) {
+            currentBalance = currentBalance.add(thisMonthContributions); // This will subtract if negative
+        }
+
+        // Fees, inflation, tax drag: take each stage's amount out of the balance and the month's interest
+        BigDecimal netInterest = thisMonthInterest;
+        for (int s = 0; s < stages.length; s++) {
+            BigDecimal amount = stages[s].adjust(month - 1, currentBalance, thisMonthInterest).setScale(20, RoundingMode.HALF_UP);
+            currentBalance = currentBalance.subtract(amount);
+            netInterest = netInterest.subtract(amount);
+            adjustmentTotals[s] = adjustmentTotals[s].add(amount.setScale(10, RoundingMode.HALF_UP));
+        }
+
+        // Round values for display/storage (choose a reasonable scale, e.g. 10)
+        BigDecimal displayedStart = monthStartBalance.setScale(10, RoundingMode.HALF_UP);
+        BigDecimal displayedContrib = thisMonthContributions.setScale(10, RoundingMode.HALF_UP);
+        BigDecimal displayedInterest = netInterest.setScale(10, RoundingMode.HALF_UP);
+        BigDecimal displayedEnd = currentBalance.setScale(10, RoundingMode.HALF_UP);
+
+        // Label "Year N, Month M" is derived from the month index when read
+        return new MonthlyData(month - 1, displayedStart, displayedContrib, displayedInterest, displayedEnd);
+    }
+}
@@ -0,0 +1,84 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Evaluates a household of accounts, each with its own rate, compounding frequency and
+ * contribution plan, and merges them month by month into one schedule.
+ *
+ * Accounts run in parallel through BatchCalculator on DoubleInvestmentEngine, one
+ * fork/join task per account (households have few accounts, each a full schedule), and
+ * each one is computed straight into primitive columns; the aggregate is the column-wise
+ * sum. No MonthlyData lists are built, for the aggregate or for the per-account
+ * breakdowns, unless their rows are read.
+ *
+ * All accounts must share the same number of years.
+ */
+public class PortfolioEngine {
+
+    private final BatchCalculator batch;
+
+    public PortfolioEngine() {
+        this(null);
+    }
+
+    public PortfolioEngine(ExecutorService executor) {
+        this(new DoubleInvestmentEngine(), executor);
+    }
+
+    // The engine must return CompactInvestmentResult, as DoubleInvestmentEngine does
+    PortfolioEngine(InvestmentEngine engine, ExecutorService executor) {
+        this.batch = new BatchCalculator(engine, executor, 1);
+    }
+
+    public PortfolioResult calculate(List<Scenario> accounts) {
+        if (accounts.isEmpty()) throw new IllegalArgumentException("A portfolio needs at least one account");
+        int years = accounts.get(0).getYears();
+        for (Scenario account : accounts) {
+            if (account.getYears() != years) {
+                throw new IllegalArgumentException("All accounts must cover the same number of years: "
+                    + years + " vs " + account.getYears() + " for " + account);
+            }
+        }
+
+        List<CompactInvestmentResult> accountResults = new ArrayList<>(accounts.size());
+        for (InvestmentResult result : batch.calculateAll(accounts).getResults()) {
+            accountResults.add((CompactInvestmentResult) result);
+        }
+
+        int months = years * 12;
+        ScheduleColumns total = new ScheduleColumns(months);
+        BigDecimal startingAmount = BigDecimal.ZERO;
+        for (int a = 0; a < accounts.size(); a++) {
+            startingAmount = startingAmount.add(accounts.get(a).getStartingAmount());
+            addInto(total, accountResults.get(a).getColumns());
+        }
+
+        CompactInvestmentResult aggregate = new CompactInvestmentResult(
+            startingAmount, years, null, CompoundingFrequency.MONTHLY.getLabel(), total);
+        return new PortfolioResult(aggregate,
+            Collections.unmodifiableList(new ArrayList<>(accounts)),
+            Collections.unmodifiableList(accountResults));
+    }
+
+    private static void addInto(ScheduleColumns total, ScheduleColumns account) {
+        double[] start = total.getStartBalance();
+        double[] contributions = total.getContributions();
+        double[] interest = total.getInterestEarned();
+        double[] end = total.getEndBalance();
+        double[] accountStart = account.getStartBalance();
+        double[] accountContributions = account.getContributions();
+        double[] accountInterest = account.getInterestEarned();
+        double[] accountEnd = account.getEndBalance();
+        for (int i = 0; i < total.getMonthCount(); i++) {
+            start[i] += accountStart[i];
+            contributions[i] += accountContributions[i];
+            interest[i] += accountInterest[i];
+            end[i] += accountEnd[i];
+        }
+    }
+}
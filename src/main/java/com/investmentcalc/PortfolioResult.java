@@ -0,0 +1,30 @@
+package com.investmentcalc;
+
+import java.util.List;
+
+/**
+ * Aggregate schedule of a portfolio plus the per-account results it was merged from.
+ */
+public class PortfolioResult {
+    private final CompactInvestmentResult aggregate;
+    private final List<Scenario> accounts;
+    private final List<CompactInvestmentResult> accountResults;
+
+    public PortfolioResult(CompactInvestmentResult aggregate, List<Scenario> accounts,
+                           List<CompactInvestmentResult> accountResults) {
+        this.aggregate = aggregate;
+        this.accounts = accounts;
+        this.accountResults = accountResults;
+    }
+
+    // Getters
+    /**
+     * Month-by-month sum of every account. It has no single rate or compounding
+     * frequency: getAnnualReturnRate() is null and the frequency is nominally monthly.
+     */
+    public CompactInvestmentResult getAggregate() { return aggregate; }
+    public List<Scenario> getAccounts() { return accounts; }
+    /** One result per account, in the order the accounts were given. */
+    public List<CompactInvestmentResult> getAccountResults() { return accountResults; }
+    public int getAccountCount() { return accounts.size(); }
+}
@@ -0,0 +1,49 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Annual return rate that changes over the horizon, e.g. 8% for 20 years then 5%:
+ * a list of RateSegments ordered by start month, the first starting at month 0.
+ * Immutable.
+ */
+public class RateSchedule {
+    private final List<RateSegment> segments;
+
+    public RateSchedule(List<RateSegment> segments) {
+        if (segments.isEmpty()) throw new IllegalArgumentException("A rate schedule needs at least one segment");
+        if (segments.get(0).getStartMonth() != 0) {
+            throw new IllegalArgumentException("The first segment must start at month 0: " + segments.get(0));
+        }
+        for (int i = 1; i < segments.size(); i++) {
+            if (segments.get(i).getStartMonth() <= segments.get(i - 1).getStartMonth()) {
+                throw new IllegalArgumentException("Segments must have increasing start months: "
+                    + segments.get(i - 1) + " then " + segments.get(i));
+            }
+        }
+        this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
+    }
+
+    public RateSchedule(RateSegment... segments) {
+        this(Arrays.asList(segments));
+    }
+
+    /** The same rate and frequency for the whole horizon. */
+    public static RateSchedule constant(BigDecimal annualReturnRate, CompoundingFrequency compoundingFrequency) {
+        return new RateSchedule(new RateSegment(0, annualReturnRate, compoundingFrequency));
+    }
+
+    /** Month (exclusive) where segment {@code index} ends, capped at {@code months}. */
+    int segmentEnd(int index, int months) {
+        int end = index + 1 < segments.size() ? segments.get(index + 1).getStartMonth() : months;
+        return Math.min(end, months);
+    }
+
+    // Getters
+    public List<RateSegment> getSegments() { return segments; }
+    public int getSegmentCount() { return segments.size(); }
+}
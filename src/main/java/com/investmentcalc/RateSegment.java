@@ -0,0 +1,35 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * One piece of a RateSchedule: from {@code startMonth} months elapsed (0 is the start
+ * of the schedule) until the next segment, money grows at this rate and frequency.
+ */
+public class RateSegment {
+    private final int startMonth;
+    private final BigDecimal annualReturnRate;
+    private final CompoundingFrequency compoundingFrequency;
+
+    public RateSegment(int startMonth, BigDecimal annualReturnRate, CompoundingFrequency compoundingFrequency) {
+        if (startMonth < 0) throw new IllegalArgumentException("Start month must not be negative: " + startMonth);
+        this.startMonth = startMonth;
+        this.annualReturnRate = annualReturnRate;
+        this.compoundingFrequency = compoundingFrequency;
+    }
+
+    /** Monthly multiplier of this segment, see CompoundingFrequency.monthlyMultiplier. */
+    BigDecimal monthlyMultiplier() {
+        return BigDecimal.valueOf(compoundingFrequency.monthlyMultiplier(annualReturnRate));
+    }
+
+    // Getters
+    public int getStartMonth() { return startMonth; }
+    public BigDecimal getAnnualReturnRate() { return annualReturnRate; }
+    public CompoundingFrequency getCompoundingFrequency() { return compoundingFrequency; }
+
+    @Override
+    public String toString() {
+        return "month " + startMonth + ": " + annualReturnRate + "% " + compoundingFrequency;
+    }
+}
@@ -0,0 +1,113 @@
+package com.investmentcalc;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only series of historical monthly returns, in percent (1.25 means +1.25% that month).
+ *
+ * The binary format is a plain sequence of big-endian IEEE 754 doubles, one per month,
+ * oldest first. Binary files are memory-mapped rather than read, and every read is an
+ * absolute get, so one series can be shared by many threads without copying.
+ */
+public final class ReturnSeries {
+    private final DoubleBuffer returns;
+
+    private ReturnSeries(DoubleBuffer returns) {
+        this.returns = returns;
+    }
+
+    /** Memory-map a binary series file. */
+    public static ReturnSeries mapBinary(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Double.BYTES != 0) {
+                throw new IOException("Not a series of doubles: " + file + " has " + size + " bytes");
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            // The mapping stays valid after the channel is closed
+            return new ReturnSeries(mapped.order(ByteOrder.BIG_ENDIAN).asDoubleBuffer());
+        }
+    }
+
+    /** Wrap returns already in memory (no copy). */
+    public static ReturnSeries of(double... monthlyReturns) {
+        return new ReturnSeries(DoubleBuffer.wrap(monthlyReturns).asReadOnlyBuffer());
+    }
+
+    /**
+     * Read one column of a CSV file with a header row, e.g. "Month,SP500,MSCI_World".
+     * Empty cells are rejected rather than treated as zero returns.
+     */
+    public static ReturnSeries readCsv(Path file, String column) throws IOException {
+        return of(readCsvColumn(file, column));
+    }
+
+    /** Convert one CSV column to the binary format so it can be memory-mapped. */
+    public static void convertCsvToBinary(Path csvFile, String column, Path binaryFile) throws IOException {
+        writeBinary(binaryFile, readCsvColumn(csvFile, column));
+    }
+
+    public static void writeBinary(Path file, double[] monthlyReturns) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file);
+             DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out))) {
+            for (double r : monthlyReturns) {
+                data.writeDouble(r);
+            }
+        }
+    }
+
+    private static double[] readCsvColumn(Path file, String column) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) throw new IOException("Empty CSV file: " + file);
+
+            String[] names = header.split(",");
+            int columnIndex = -1;
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].trim().equals(column)) columnIndex = i;
+            }
+            if (columnIndex < 0) throw new IOException("Column not found: " + column);
+
+            List<Double> values = new ArrayList<>();
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) continue;
+                String[] cells = line.split(",", -1);
+                if (columnIndex >= cells.length || cells[columnIndex].trim().isEmpty()) {
+                    throw new IOException("Missing " + column + " value on line " + lineNumber);
+                }
+                try {
+                    values.add(Double.parseDouble(cells[columnIndex].trim()));
+                } catch (NumberFormatException e) {
+                    throw new IOException("Invalid " + column + " value on line " + lineNumber + ": " + cells[columnIndex], e);
+                }
+            }
+            return values.stream().mapToDouble(Double::doubleValue).toArray();
+        }
+    }
+
+    public int length() {
+        return returns.limit();
+    }
+
+    /** Return for month {@code index} (0 = oldest), in percent. */
+    public double get(int index) {
+        return returns.get(index);
+    }
+}
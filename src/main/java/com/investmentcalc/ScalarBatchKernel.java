@@ -0,0 +1,39 @@
+package com.investmentcalc;
+
+/**
+ * Plain loop implementation of BatchKernel; the fallback wherever the Vector API is
+ * not available.
+ */
+final class ScalarBatchKernel implements BatchKernel {
+
+    static final ScalarBatchKernel INSTANCE = new ScalarBatchKernel();
+
+    private ScalarBatchKernel() {}
+
+    @Override
+    public void grow(double[] balances, double[] multipliers, int length) {
+        for (int i = 0; i < length; i++) {
+            balances[i] = balances[i] * multipliers[i];
+        }
+    }
+
+    @Override
+    public void step(double[] balances, double[] multipliers, double contribution,
+                     boolean contributeAtBeginning, int length) {
+        if (contributeAtBeginning) {
+            for (int i = 0; i < length; i++) {
+                balances[i] = (balances[i] + contribution) * multipliers[i];
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                balances[i] = balances[i] * multipliers[i] + contribution;
+            }
+        }
+    }
+
+    @Override
+    public int lanes() { return 1; }
+
+    @Override
+    public String name() { return "scalar"; }
+}
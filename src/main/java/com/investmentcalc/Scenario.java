@@ -0,0 +1,121 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * One set of calculateInvestment inputs, so scenarios can be queued, batched and passed around.
+ */
+public class Scenario {
+    private final BigDecimal startingAmount;
+    private final int years;
+    private final BigDecimal annualReturnRate;
+    private final CompoundingFrequency compoundingFrequency;
+    private final BigDecimal additionalContribution;
+    private final int contributionsPerYear;
+    private final boolean contributeAtBeginning;
+
+    /**
+     * Scenario for a frequency label such as "Monthly" (case-insensitive).
+     *
+     * @throws IllegalArgumentException for an unknown label (see CompoundingFrequency.parse)
+     */
+    public Scenario(BigDecimal startingAmount,
+                    int years,
+                    BigDecimal annualReturnRate,
+                    String compoundingFrequency,
+                    BigDecimal additionalContribution,
+                    int contributionsPerYear,
+                    boolean contributeAtBeginning) {
+        this(startingAmount, years, annualReturnRate, CompoundingFrequency.parse(compoundingFrequency),
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    public Scenario(BigDecimal startingAmount,
+                    int years,
+                    BigDecimal annualReturnRate,
+                    CompoundingFrequency compoundingFrequency,
+                    BigDecimal additionalContribution,
+                    int contributionsPerYear,
+                    boolean contributeAtBeginning) {
+        this.startingAmount = startingAmount;
+        this.years = years;
+        this.annualReturnRate = annualReturnRate;
+        this.compoundingFrequency = compoundingFrequency;
+        this.additionalContribution = additionalContribution;
+        this.contributionsPerYear = contributionsPerYear;
+        this.contributeAtBeginning = contributeAtBeginning;
+    }
+
+    /** Run this scenario through the given engine. */
+    public InvestmentResult calculate(InvestmentEngine engine) {
+        return engine.calculateInvestment(
+            startingAmount,
+            years,
+            annualReturnRate,
+            compoundingFrequency,
+            additionalContribution,
+            contributionsPerYear,
+            contributeAtBeginning
+        );
+    }
+
+    /**
+     * The same scenario with every BigDecimal reduced to its smallest scale, so that
+     * inputs differing only in trailing zeros (7 vs 7.00) are equal.
+     */
+    public Scenario normalized() {
+        return new Scenario(
+            normalize(startingAmount),
+            years,
+            normalize(annualReturnRate),
+            compoundingFrequency,
+            normalize(additionalContribution),
+            contributionsPerYear,
+            contributeAtBeginning
+        );
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+
+    // Getters
+    public BigDecimal getStartingAmount() { return startingAmount; }
+    public int getYears() { return years; }
+    public BigDecimal getAnnualReturnRate() { return annualReturnRate; }
+    /** Display label of the compounding frequency, e.g. "Monthly". */
+    public String getCompoundingFrequency() { return compoundingFrequency.getLabel(); }
+    public CompoundingFrequency getFrequency() { return compoundingFrequency; }
+    public BigDecimal getAdditionalContribution() { return additionalContribution; }
+    public int getContributionsPerYear() { return contributionsPerYear; }
+    public boolean isContributeAtBeginning() { return contributeAtBeginning; }
+
+    /** Field-by-field equality; BigDecimals compare with scale, see normalized(). */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Scenario)) return false;
+        Scenario other = (Scenario) o;
+        return years == other.years
+            && contributionsPerYear == other.contributionsPerYear
+            && contributeAtBeginning == other.contributeAtBeginning
+            && Objects.equals(startingAmount, other.startingAmount)
+            && Objects.equals(annualReturnRate, other.annualReturnRate)
+            && compoundingFrequency == other.compoundingFrequency
+            && Objects.equals(additionalContribution, other.additionalContribution);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startingAmount, years, annualReturnRate, compoundingFrequency,
+            additionalContribution, contributionsPerYear, contributeAtBeginning);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Scenario[start=%s, years=%d, rate=%s%%, %s, contribution=%s x%d/yr, %s]",
+            startingAmount, years, annualReturnRate, compoundingFrequency,
+            additionalContribution, contributionsPerYear, contributeAtBeginning ? "beginning" : "end");
+    }
+}
@@ -0,0 +1,27 @@
+package com.investmentcalc;
+
+/**
+ * Monthly schedule stored as parallel primitive columns, one entry per month.
+ * The arrays are exposed directly (not copied) so batch callers can read them
+ * without boxing; treat them as read-only.
+ */
+public final class ScheduleColumns {
+    private final double[] startBalance;
+    private final double[] contributions;
+    private final double[] interestEarned;
+    private final double[] endBalance;
+
+    public ScheduleColumns(int months) {
+        this.startBalance = new double[months];
+        this.contributions = new double[months];
+        this.interestEarned = new double[months];
+        this.endBalance = new double[months];
+    }
+
+    // Getters
+    public int getMonthCount() { return startBalance.length; }
+    public double[] getStartBalance() { return startBalance; }
+    public double[] getContributions() { return contributions; }
+    public double[] getInterestEarned() { return interestEarned; }
+    public double[] getEndBalance() { return endBalance; }
+}
@@ -0,0 +1,101 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterators that drive a MonthlyScheduleStepper while they are consumed.
+ *
+ * Rows are produced one at a time in a single pass and never collected, so memory
+ * stays constant whatever the horizon. They do not split: a schedule is a sequential
+ * recurrence and each month depends on the previous balance.
+ */
+final class ScheduleSpliterators {
+
+    private static final int CHARACTERISTICS =
+            Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+    private ScheduleSpliterators() {}
+
+    static Spliterator<MonthlyData> monthly(MonthlyScheduleStepper stepper) {
+        return new MonthlySpliterator(stepper);
+    }
+
+    /**
+     * Yearly rollups built the same way as FinalInvestmentEngine.calculateInvestment:
+     * year 1 starts at the starting amount, later years at the previous year's end balance.
+     */
+    static Spliterator<YearlyData> yearly(MonthlyScheduleStepper stepper, BigDecimal startingAmount) {
+        return new YearlySpliterator(stepper, startingAmount);
+    }
+
+    private static final class MonthlySpliterator implements Spliterator<MonthlyData> {
+        private final MonthlyScheduleStepper stepper;
+
+        MonthlySpliterator(MonthlyScheduleStepper stepper) {
+            this.stepper = stepper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super MonthlyData> action) {
+            if (!stepper.hasNext()) return false;
+            action.accept(stepper.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<MonthlyData> trySplit() { return null; }
+
+        @Override
+        public long estimateSize() { return stepper.getTotalMonths() - stepper.getMonthsProduced(); }
+
+        @Override
+        public int characteristics() { return CHARACTERISTICS; }
+    }
+
+    private static final class YearlySpliterator implements Spliterator<YearlyData> {
+        private final MonthlyScheduleStepper stepper;
+        private BigDecimal yearStartBalance;
+
+        YearlySpliterator(MonthlyScheduleStepper stepper, BigDecimal startingAmount) {
+            this.stepper = stepper;
+            this.yearStartBalance = startingAmount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super YearlyData> action) {
+            if (!stepper.hasNext()) return false;
+
+            BigDecimal yearContributions = BigDecimal.ZERO;
+            BigDecimal yearInterest = BigDecimal.ZERO;
+            BigDecimal currentBalance = yearStartBalance;
+            for (int i = 0; i < 12 && stepper.hasNext(); i++) {
+                MonthlyData md = stepper.next();
+                yearContributions = yearContributions.add(md.getContributions());
+                yearInterest = yearInterest.add(md.getInterestEarned());
+                currentBalance = md.getEndBalance();
+            }
+
+            YearlyData data = new YearlyData(
+                stepper.getMonthsProduced() / 12,
+                yearStartBalance,
+                yearContributions,
+                yearInterest,
+                currentBalance
+            );
+            yearStartBalance = currentBalance;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public Spliterator<YearlyData> trySplit() { return null; }
+
+        @Override
+        public long estimateSize() { return (stepper.getTotalMonths() - stepper.getMonthsProduced()) / 12; }
+
+        @Override
+        public int characteristics() { return CHARACTERISTICS; }
+    }
+}
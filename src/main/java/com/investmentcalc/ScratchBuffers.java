@@ -0,0 +1,30 @@
+package com.investmentcalc;
+
+/**
+ * Per-thread scratch arrays for the primitive fast paths (Monte Carlo blocks, sweep
+ * slices), so that worker threads reuse the same arrays from one task to the next
+ * instead of allocating them for every block.
+ *
+ * An array is only valid until the same thread asks for the same slot again, and its
+ * contents are undefined when handed out; callers must not keep it, share it with
+ * other threads or hold it across a call that may use the same slot.
+ */
+final class ScratchBuffers {
+
+    /** Number of independent arrays per thread. */
+    static final int SLOTS = 2;
+
+    private static final ThreadLocal<double[][]> LOCAL =
+        ThreadLocal.withInitial(() -> new double[SLOTS][0]);
+
+    private ScratchBuffers() {}
+
+    /** This thread's array for {@code slot}, at least {@code minLength} long. */
+    static double[] doubles(int slot, int minLength) {
+        double[][] arrays = LOCAL.get();
+        if (arrays[slot].length < minLength) {
+            arrays[slot] = new double[minLength];
+        }
+        return arrays[slot];
+    }
+}
@@ -0,0 +1,66 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * Sensitivities of the end balance for advice reports (e.g. a tornado chart), from a
+ * single pass of the month loop instead of re-running bumped scenarios.
+ *
+ * The loop of DoubleInvestmentEngine is run on dual numbers: next to the balance it
+ * carries the balance's derivatives with respect to the annual rate, the annual
+ * contribution and the starting amount, updated with the product rule at every month
+ * (forward-mode differentiation). The results are exact derivatives of the model, not
+ * finite-difference estimates. Years are whole, so the horizon sensitivity is the
+ * increase over the final year, read from the same pass.
+ */
+public class SensitivityEngine {
+
+    public SensitivityResult calculate(
+            BigDecimal startingAmount,
+            int years,
+            BigDecimal annualReturnRate,     // as percent, e.g. 7 for 7%
+            CompoundingFrequency frequency,
+            BigDecimal additionalContribution,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        if (years < 0) throw new IllegalArgumentException("Years must not be negative: " + years);
+        int periods = frequency.getPeriodsPerYear();
+        double rate = annualReturnRate.doubleValue();
+
+        // m = (1 + r/100/n)^(n/12), so dm/dr = m / (1200 * (1 + r/100/n))
+        double m = frequency.monthlyMultiplier(annualReturnRate);
+        double dmDRate = m / (1200.0 * (1.0 + rate / 100.0 / periods));
+        double perEvent = FinalInvestmentEngine.contributionPerEvent(additionalContribution.doubleValue(), contributionsPerYear);
+        double perEventDContribution = FinalInvestmentEngine.contributionPerEvent(1.0, contributionsPerYear);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+        int months = years * 12;
+
+        // The balance and its tangents with respect to rate, contribution and starting amount
+        double balance = startingAmount.doubleValue();
+        double dRate = 0.0;
+        double dContribution = 0.0;
+        double dStart = 1.0;
+        double yearAgoBalance = balance;
+
+        for (int i = 0; i < months; i++) {
+            boolean event = i % interval == 0;
+            if (contributeAtBeginning && event) {
+                balance += perEvent;
+                dContribution += perEventDContribution;
+            }
+            dRate = dRate * m + balance * dmDRate;
+            dContribution *= m;
+            dStart *= m;
+            balance *= m;
+            if (!contributeAtBeginning && event) {
+                balance += perEvent;
+                dContribution += perEventDContribution;
+            }
+            if (i == months - 13) yearAgoBalance = balance;
+        }
+
+        double dYears = months == 0 ? 0.0 : balance - yearAgoBalance;
+        return new SensitivityResult(balance, dRate, dContribution, dStart, dYears);
+    }
+}
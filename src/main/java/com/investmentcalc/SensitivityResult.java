@@ -0,0 +1,33 @@
+package com.investmentcalc;
+
+/**
+ * End balance of a scenario and its partial derivatives with respect to each input,
+ * as computed by SensitivityEngine.
+ */
+public class SensitivityResult {
+    private final double endBalance;
+    private final double rateSensitivity;
+    private final double contributionSensitivity;
+    private final double startingAmountSensitivity;
+    private final double yearsSensitivity;
+
+    public SensitivityResult(double endBalance, double rateSensitivity, double contributionSensitivity,
+                             double startingAmountSensitivity, double yearsSensitivity) {
+        this.endBalance = endBalance;
+        this.rateSensitivity = rateSensitivity;
+        this.contributionSensitivity = contributionSensitivity;
+        this.startingAmountSensitivity = startingAmountSensitivity;
+        this.yearsSensitivity = yearsSensitivity;
+    }
+
+    // Getters
+    public double getEndBalance() { return endBalance; }
+    /** Change in end balance per percentage point of annual return rate. */
+    public double getRateSensitivity() { return rateSensitivity; }
+    /** Change in end balance per unit of annual additional contribution. */
+    public double getContributionSensitivity() { return contributionSensitivity; }
+    /** Change in end balance per unit of starting amount. */
+    public double getStartingAmountSensitivity() { return startingAmountSensitivity; }
+    /** What the last year added to the end balance; years are whole, so this is a backward difference. */
+    public double getYearsSensitivity() { return yearsSensitivity; }
+}
@@ -0,0 +1,35 @@
+package com.investmentcalc;
+
+/**
+ * Dense end-balance grid over rate x years x contribution, stored as one primitive
+ * array in row-major order (contribution varies fastest).
+ */
+public class SweepGrid {
+    private final double[] rates;
+    private final int[] years;
+    private final double[] contributions;
+    private final double[] endBalances;
+
+    SweepGrid(double[] rates, int[] years, double[] contributions) {
+        this.rates = rates;
+        this.years = years;
+        this.contributions = contributions;
+        this.endBalances = new double[rates.length * years.length * contributions.length];
+    }
+
+    int index(int rateIndex, int yearsIndex, int contributionIndex) {
+        return (rateIndex * years.length + yearsIndex) * contributions.length + contributionIndex;
+    }
+
+    public double getEndBalance(int rateIndex, int yearsIndex, int contributionIndex) {
+        return endBalances[index(rateIndex, yearsIndex, contributionIndex)];
+    }
+
+    // Getters
+    public double[] getRates() { return rates; }
+    public int[] getYears() { return years; }
+    public double[] getContributions() { return contributions; }
+    /** The backing array (not copied); see index layout in the class comment. */
+    public double[] getEndBalances() { return endBalances; }
+    public int getCellCount() { return endBalances.length; }
+}
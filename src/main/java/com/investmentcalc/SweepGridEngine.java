@@ -0,0 +1,145 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Fills "what if" surfaces of end balance over rate x years x contribution.
+ *
+ * Work is shared across cells instead of running calculateInvestment per cell:
+ * - one monthly multiplier per rate;
+ * - one monthly pass per rate, up to the longest horizon, that records the
+ *   year-end balance for every horizon on the years axis;
+ * - the balance is linear in the starting amount and the contribution, so that pass
+ *   tracks the growth of 1 unit of starting amount and of 1 unit of annual contribution,
+ *   and every contribution level is a multiply-add of the two.
+ * The pass advances up to RATES_PER_SLICE rates in lockstep through a BatchKernel
+ * (SIMD lanes where the Vector API is available). Slices are independent and run in
+ * parallel on the common ForkJoinPool.
+ *
+ * Cells agree with DoubleInvestmentEngine to within DoubleInvestmentEngine.RELATIVE_TOLERANCE.
+ */
+public class SweepGridEngine {
+
+    /** Rates advanced together by one task. */
+    static final int RATES_PER_SLICE = 256;
+
+    private final BatchKernel kernel;
+
+    public SweepGridEngine() {
+        this(BatchKernels.preferred());
+    }
+
+    SweepGridEngine(BatchKernel kernel) {
+        this.kernel = kernel;
+    }
+
+    public SweepGrid sweep(
+            double startingAmount,
+            double[] annualReturnRates,      // as percent, e.g. 7 for 7%
+            int[] years,
+            double[] additionalContributions,
+            String compoundingFrequency,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        for (int y : years) {
+            if (y < 0) throw new IllegalArgumentException("Years must not be negative: " + y);
+        }
+
+        SweepGrid grid = new SweepGrid(annualReturnRates.clone(), years.clone(), additionalContributions.clone());
+        CompoundingFrequency frequency = CompoundingFrequency.parse(compoundingFrequency);
+        int maxYears = Arrays.stream(years).max().orElse(0);
+
+        // Computed directly so a wide rate axis does not churn CompoundingFrequency's cache
+        double[] multipliers = new double[annualReturnRates.length];
+        for (int r = 0; r < multipliers.length; r++) {
+            multipliers[r] = FinalInvestmentEngine.monthlyMultiplier(BigDecimal.valueOf(annualReturnRates[r]),
+                frequency.getPeriodsPerYear());
+        }
+
+        int slices = (multipliers.length + RATES_PER_SLICE - 1) / RATES_PER_SLICE;
+        IntStream.range(0, slices).parallel().forEach(slice -> fillRateSlice(
+            grid,
+            slice * RATES_PER_SLICE,
+            Math.min(multipliers.length, (slice + 1) * RATES_PER_SLICE),
+            startingAmount,
+            multipliers,
+            maxYears,
+            contributionsPerYear,
+            contributeAtBeginning
+        ));
+
+        return grid;
+    }
+
+    // Advance every rate in [fromRate, toRate) month by month in lockstep
+    private void fillRateSlice(
+            SweepGrid grid,
+            int fromRate,
+            int toRate,
+            double startingAmount,
+            double[] allMultipliers,
+            int maxYears,
+            int contributionsPerYear,
+            boolean contributeAtBeginning) {
+
+        int lanes = toRate - fromRate;
+        double[] multipliers = Arrays.copyOfRange(allMultipliers, fromRate, toRate);
+
+        // Year-end growth of one unit of starting amount and of one unit of annual contribution, per rate
+        double[][] principalGrowth = new double[maxYears + 1][];
+        double[][] contributionGrowth = new double[maxYears + 1][];
+        // Per-thread scratch, reused by the next slice on this thread; year-end snapshots are copies
+        double[] principal = ScratchBuffers.doubles(0, lanes);
+        double[] contributed = ScratchBuffers.doubles(1, lanes);
+        Arrays.fill(principal, 0, lanes, 1.0);
+        Arrays.fill(contributed, 0, lanes, 0.0);
+        principalGrowth[0] = Arrays.copyOf(principal, lanes);
+        contributionGrowth[0] = Arrays.copyOf(contributed, lanes);
+
+        double unitPerEvent = FinalInvestmentEngine.contributionPerEvent(1.0, contributionsPerYear);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(contributionsPerYear);
+
+        for (int month = 0; month < maxYears * 12; month++) {
+            double c = (month % interval == 0) ? unitPerEvent : 0.0;
+            kernel.grow(principal, multipliers, lanes);
+            kernel.step(contributed, multipliers, c, contributeAtBeginning, lanes);
+            if ((month + 1) % 12 == 0) {
+                principalGrowth[(month + 1) / 12] = Arrays.copyOf(principal, lanes);
+                contributionGrowth[(month + 1) / 12] = Arrays.copyOf(contributed, lanes);
+            }
+        }
+
+        double[] cells = grid.getEndBalances();
+        double[] contributions = grid.getContributions();
+        int[] years = grid.getYears();
+        for (int lane = 0; lane < lanes; lane++) {
+            for (int y = 0; y < years.length; y++) {
+                double base = startingAmount * principalGrowth[years[y]][lane];
+                double perUnit = contributionGrowth[years[y]][lane];
+                int offset = grid.index(fromRate + lane, y, 0);
+                for (int c = 0; c < contributions.length; c++) {
+                    cells[offset + c] = base + contributions[c] * perUnit;
+                }
+            }
+        }
+    }
+
+    /** Evenly spaced axis from {@code from} to {@code to} inclusive. */
+    public static double[] axis(double from, double to, double step) {
+        if (step <= 0) throw new IllegalArgumentException("Step must be positive: " + step);
+        int count = (int) Math.floor((to - from) / step + 1e-9) + 1;
+        double[] values = new double[Math.max(0, count)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = from + i * step;
+        }
+        return values;
+    }
+
+    /** Every whole year from {@code from} to {@code to} inclusive. */
+    public static int[] yearsAxis(int from, int to) {
+        return IntStream.rangeClosed(from, to).toArray();
+    }
+}
@@ -0,0 +1,81 @@
+package com.investmentcalc;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * BatchKernel on jdk.incubator.vector lanes. Only compiled for Java 17+ and only
+ * loaded through BatchKernels, which falls back to the scalar loop when this class or
+ * the incubator module is missing.
+ *
+ * The JIT only emits SIMD instructions when the species is a constant, so the width is
+ * fixed once per JVM: the platform's preferred width, or the value of the
+ * {@code investmentcalc.vector.bits} system property (128, 256 or 512).
+ * Uses a separate mul and add (never fma) so results match ScalarBatchKernel exactly.
+ */
+final class VectorBatchKernel implements BatchKernel {
+
+    private static final VectorSpecies<Double> SPECIES = chooseSpecies();
+
+    VectorBatchKernel() {
+        if (SPECIES.length() < 2) {
+            throw new IllegalStateException("No multi-lane double vectors on this platform");
+        }
+    }
+
+    private static VectorSpecies<Double> chooseSpecies() {
+        int preferred = DoubleVector.SPECIES_PREFERRED.vectorBitSize();
+        int bits = Integer.getInteger(BatchKernels.VECTOR_BITS_PROPERTY, preferred);
+        if (bits > preferred) {
+            throw new IllegalArgumentException("Widest supported vector is " + preferred + " bits, not " + bits);
+        }
+        return VectorSpecies.of(double.class, VectorShape.forBitSize(bits));
+    }
+
+    @Override
+    public void grow(double[] balances, double[] multipliers, int length) {
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector b = DoubleVector.fromArray(SPECIES, balances, i);
+            DoubleVector m = DoubleVector.fromArray(SPECIES, multipliers, i);
+            b.mul(m).intoArray(balances, i);
+        }
+        for (; i < length; i++) {
+            balances[i] = balances[i] * multipliers[i];
+        }
+    }
+
+    @Override
+    public void step(double[] balances, double[] multipliers, double contribution,
+                     boolean contributeAtBeginning, int length) {
+        int i = 0;
+        int bound = SPECIES.loopBound(length);
+        if (contributeAtBeginning) {
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector b = DoubleVector.fromArray(SPECIES, balances, i);
+                DoubleVector m = DoubleVector.fromArray(SPECIES, multipliers, i);
+                b.add(contribution).mul(m).intoArray(balances, i);
+            }
+            for (; i < length; i++) {
+                balances[i] = (balances[i] + contribution) * multipliers[i];
+            }
+        } else {
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector b = DoubleVector.fromArray(SPECIES, balances, i);
+                DoubleVector m = DoubleVector.fromArray(SPECIES, multipliers, i);
+                b.mul(m).add(contribution).intoArray(balances, i);
+            }
+            for (; i < length; i++) {
+                balances[i] = balances[i] * multipliers[i] + contribution;
+            }
+        }
+    }
+
+    @Override
+    public int lanes() { return SPECIES.length(); }
+
+    @Override
+    public String name() { return "vector " + SPECIES.vectorBitSize() + "-bit"; }
+}
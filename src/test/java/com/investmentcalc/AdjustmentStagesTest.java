@@ -0,0 +1,98 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class AdjustmentStagesTest {
+
+    private final FinalInvestmentEngine engine = new FinalInvestmentEngine();
+
+    @Test
+    void testNoStagesMatchesPlainSchedule() {
+        System.out.println("\n=== Test: Empty Pipeline ===");
+
+        InvestmentResult plain = engine.calculateInvestment(new BigDecimal("10000"), 20, new BigDecimal("7"),
+            CompoundingFrequency.MONTHLY, new BigDecimal("6000"), 12, true);
+        AdjustedInvestmentResult adjusted = engine.calculateInvestment(new BigDecimal("10000"), 20, new BigDecimal("7"),
+            CompoundingFrequency.MONTHLY, new BigDecimal("6000"), 12, true, Collections.emptyList());
+
+        assertEquals(0, plain.getEndBalance().compareTo(adjusted.getEndBalance()));
+        assertEquals(0, plain.getTotalInterest().compareTo(adjusted.getTotalInterest()));
+        assertTrue(adjusted.getAdjustmentTotals().isEmpty());
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testFeeMatchesReducedMultiplier() {
+        System.out.println("\n=== Test: Advisory Fee ===");
+
+        AdjustedInvestmentResult result = engine.calculateInvestment(new BigDecimal("50000"), 30, new BigDecimal("6"),
+            CompoundingFrequency.MONTHLY, BigDecimal.ZERO, 12, true,
+            Collections.singletonList(AdjustmentStages.advisoryFee(new BigDecimal("1.2"))));
+
+        // With no contributions each month multiplies the balance by m * (1 - fee/12)
+        double m = 1 + 0.06 / 12;
+        double expected = 50000 * Math.pow(m * (1 - 0.012 / 12), 360);
+        assertEquals(expected, result.getEndBalance().doubleValue(), 1e-6);
+
+        BigDecimal fees = result.getAdjustmentTotals().get("Advisory fee");
+        System.out.println("Fees paid: " + fees + ", end balance " + result.getEndBalance());
+        assertTrue(fees.signum() > 0);
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testInflationDeflatesToStartMoney() {
+        System.out.println("\n=== Test: Inflation Adjustment ===");
+
+        InvestmentResult nominal = engine.calculateInvestment(new BigDecimal("10000"), 25, new BigDecimal("7"),
+            CompoundingFrequency.ANNUALLY, BigDecimal.ZERO, 12, false);
+        AdjustedInvestmentResult real = engine.calculateInvestment(new BigDecimal("10000"), 25, new BigDecimal("7"),
+            CompoundingFrequency.ANNUALLY, BigDecimal.ZERO, 12, false,
+            Collections.singletonList(AdjustmentStages.inflation(new BigDecimal("3"))));
+
+        double expected = nominal.getEndBalance().doubleValue() / Math.pow(1.03, 25);
+        assertEquals(expected, real.getEndBalance().doubleValue(), 1e-6);
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testStageTotalsReconcile() {
+        System.out.println("\n=== Test: Per-Stage Totals ===");
+
+        List<AdjustmentStage> stages = Arrays.asList(
+            AdjustmentStages.advisoryFee(new BigDecimal("0.75")),
+            AdjustmentStages.taxDrag(new BigDecimal("15")),
+            AdjustmentStages.inflation(new BigDecimal("2.5")));
+        AdjustedInvestmentResult result = engine.calculateInvestment(new BigDecimal("20000"), 40, new BigDecimal("8"),
+            CompoundingFrequency.DAILY, new BigDecimal("4000"), 4, true, stages);
+
+        assertEquals(Arrays.asList("Advisory fee", "Tax drag", "Inflation"),
+            Arrays.asList(result.getAdjustmentTotals().keySet().toArray()));
+
+        // Rows still add up: start + contributions + net interest = end
+        BigDecimal rounding = new BigDecimal("0.0000001");
+        for (MonthlyData row : result.getMonthlyData()) {
+            BigDecimal sum = row.getStartBalance().add(row.getContributions()).add(row.getInterestEarned());
+            assertTrue(sum.subtract(row.getEndBalance()).abs().compareTo(rounding) <= 0, row.getMonth());
+        }
+        BigDecimal balanceCheck = result.getTotalContributions().add(result.getTotalInterest());
+        assertTrue(balanceCheck.subtract(result.getEndBalance()).abs().compareTo(new BigDecimal("0.0001")) <= 0);
+
+        // Tax drag is 15% of the gross interest
+        BigDecimal tax = result.getAdjustmentTotals().get("Tax drag");
+        BigDecimal grossInterest = result.getGrossInterest();
+        assertEquals(0.15, tax.doubleValue() / grossInterest.doubleValue(), 1e-6);
+        System.out.println("Gross interest " + grossInterest + ", totals " + result.getAdjustmentTotals());
+
+        System.out.println("Result:   ✅ PASS");
+    }
+}
@@ -0,0 +1,106 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class BacktestEngineTest {
+
+    private final BacktestEngine engine = new BacktestEngine();
+
+    @Test
+    void testConstantSeriesMatchesFixedRateEngine(@TempDir Path tempDir) throws Exception {
+        System.out.println("\n=== Test: Backtest with Constant Returns ===");
+
+        double[] returns = new double[600];
+        Arrays.fill(returns, 0.5); // 0.5% per month == 6% compounded monthly
+        Path file = tempDir.resolve("flat.bin");
+        ReturnSeries.writeBinary(file, returns);
+
+        ReturnSeries series = ReturnSeries.mapBinary(file);
+        assertEquals(600, series.length());
+
+        BacktestResult result = engine.run(series, 20, 10000, 6000, 4, true);
+        double expected = new DoubleInvestmentEngine().calculateInvestment(
+            new BigDecimal("10000"), 20, new BigDecimal("6"), "Monthly",
+            new BigDecimal("6000"), 4, true).getEndBalance().doubleValue();
+
+        assertEquals(600 - 240 + 1, result.getWindowCount());
+        assertEquals(expected, result.getWorstEndBalance(), expected * 1e-9);
+        assertEquals(expected, result.getBestEndBalance(), expected * 1e-9);
+
+        System.out.printf("Windows: %d, end balance $%,.2f%n", result.getWindowCount(), result.getPercentile(50));
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRollingWindowsReplayEachStartMonth() {
+        SplittableRandom random = new SplittableRandom(7);
+        double[] returns = new double[50 * 12];
+        for (int i = 0; i < returns.length; i++) {
+            returns[i] = random.nextDouble(-8, 9);
+        }
+        ReturnSeries series = ReturnSeries.of(returns);
+
+        BacktestResult result = engine.run(series, 10, 5000, 1200, 12, false);
+
+        for (int start = 0; start < result.getWindowCount(); start += 37) {
+            double balance = 5000;
+            for (int m = 0; m < 120; m++) {
+                balance = balance * (1 + returns[start + m] / 100.0) + 100;
+            }
+            assertEquals(balance, result.getEndBalances()[start], Math.abs(balance) * 1e-12);
+        }
+
+        int worst = result.getWorstStartMonth();
+        assertEquals(result.getWorstEndBalance(), result.getEndBalances()[worst]);
+        assertTrue(result.getPercentile(5) <= result.getPercentile(50));
+        assertTrue(result.getPercentile(50) <= result.getPercentile(95));
+        assertEquals(1.0, result.getShareAtLeast(result.getWorstEndBalance()));
+    }
+
+    @Test
+    void testShareAtLeastCountsTies() {
+        BacktestResult result = new BacktestResult(10, new double[] {300, 100, 200, 200, 200, 400, 100, 500});
+        assertEquals(1.0, result.getShareAtLeast(50));
+        assertEquals(1.0, result.getShareAtLeast(100));
+        assertEquals(6 / 8.0, result.getShareAtLeast(150));
+        assertEquals(6 / 8.0, result.getShareAtLeast(200));
+        assertEquals(3 / 8.0, result.getShareAtLeast(201));
+        assertEquals(1 / 8.0, result.getShareAtLeast(500));
+        assertEquals(0.0, result.getShareAtLeast(501));
+        assertEquals(0.0, new BacktestResult(10, new double[0]).getShareAtLeast(0));
+    }
+
+    @Test
+    void testCsvColumnsAndConversion(@TempDir Path tempDir) throws Exception {
+        Path csv = tempDir.resolve("indices.csv");
+        Files.write(csv, Arrays.asList(
+            "Month,SP500,MSCI_World",
+            "1990-01,-6.88,-5.10",
+            "1990-02,0.85,1.20",
+            "1990-03,2.43,0.50"), StandardCharsets.UTF_8);
+
+        ReturnSeries world = ReturnSeries.readCsv(csv, "MSCI_World");
+        assertEquals(3, world.length());
+        assertEquals(1.20, world.get(1));
+
+        Path bin = tempDir.resolve("sp500.bin");
+        ReturnSeries.convertCsvToBinary(csv, "SP500", bin);
+        ReturnSeries sp500 = ReturnSeries.mapBinary(bin);
+        assertEquals(3, sp500.length());
+        assertEquals(-6.88, sp500.get(0));
+        assertEquals(2.43, sp500.get(2));
+
+        assertThrows(IOException.class, () -> ReturnSeries.readCsv(csv, "Nikkei"));
+        assertEquals(0, engine.run(sp500, 1, 100, 0, 0, true).getWindowCount());
+    }
+}
@@ -0,0 +1,74 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class BalanceQueryTest {
+
+    private static final BigDecimal TOLERANCE = new BigDecimal("0.000001");
+
+    private final FinalInvestmentEngine engine = new FinalInvestmentEngine();
+
+    @Test
+    void testMatchesScheduleAtEveryMonth() {
+        System.out.println("\n=== Test: Balance Query vs Full Schedule ===");
+
+        for (int perYear : new int[] {1, 4, 12, 7, 0}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                InvestmentResult full = engine.calculateInvestment(new BigDecimal("15000"), 8, new BigDecimal("5.25"),
+                    "Weekly", new BigDecimal("4800"), perYear, atBeginning);
+                BalanceQuery query = new BalanceQuery(new BigDecimal("15000"), new BigDecimal("5.25"),
+                    "Weekly", new BigDecimal("4800"), perYear, atBeginning);
+
+                List<MonthlyData> rows = full.getMonthlyData();
+                BigDecimal contributed = new BigDecimal("15000");
+                BigDecimal interest = BigDecimal.ZERO;
+                for (int k = 1; k <= rows.size(); k++) {
+                    MonthlyData row = rows.get(k - 1);
+                    contributed = contributed.add(row.getContributions());
+                    interest = interest.add(row.getInterestEarned());
+
+                    MonthBalance at = query.at(k);
+                    String where = String.format("month %d, %d/yr, %s", k, perYear, atBeginning ? "beginning" : "end");
+                    assertClose(row.getStartBalance(), at.getStartBalance(), where);
+                    assertClose(row.getContributions(), at.getContributions(), where);
+                    assertClose(row.getInterestEarned(), at.getInterestEarned(), where);
+                    assertClose(row.getEndBalance(), at.getEndBalance(), where);
+                    assertClose(contributed, at.getContributionsToDate(), where);
+                    assertClose(interest, at.getInterestToDate(), where);
+                }
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testMonthZeroAndFarMonths() {
+        BalanceQuery query = new BalanceQuery(new BigDecimal("1000"), new BigDecimal("6"), "Monthly",
+            new BigDecimal("1200"), 12, false);
+
+        MonthBalance start = query.at(0);
+        assertEquals(0, start.getEndBalance().compareTo(new BigDecimal("1000")));
+        assertEquals(0, start.getInterestToDate().signum());
+        assertThrows(IllegalArgumentException.class, () -> query.at(-1));
+
+        // Month 1200 without a 1200-month schedule, matches the summary of a 100-year run
+        long startNanos = System.nanoTime();
+        MonthBalance far = query.at(1200);
+        double elapsedMicros = (System.nanoTime() - startNanos) / 1000.0;
+        InvestmentResult summary = engine.calculateSummary(new BigDecimal("1000"), 100, new BigDecimal("6"), "Monthly",
+            new BigDecimal("1200"), 12, false);
+        assertEquals(0, summary.getEndBalance().compareTo(far.getEndBalance()));
+        assertEquals(0, summary.getTotalContributions().compareTo(far.getContributionsToDate()));
+        System.out.printf("Balance at month 1200: %.2f (%.0f us)%n", far.getEndBalance(), elapsedMicros);
+    }
+
+    private static void assertClose(BigDecimal expected, BigDecimal actual, String where) {
+        assertTrue(expected.subtract(actual).abs().compareTo(TOLERANCE) <= 0,
+            where + ": expected " + expected + " but was " + actual);
+    }
+}
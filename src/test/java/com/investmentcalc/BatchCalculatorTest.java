@@ -0,0 +1,142 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchCalculatorTest {
+
+    private static final String[] FREQUENCIES = {"Annually", "Quarterly", "Monthly", "Weekly", "Daily"};
+    private static final int[] CONTRIBUTIONS_PER_YEAR = {0, 1, 4, 12};
+
+    @Test
+    void testResultsComeBackInInputOrder() {
+        System.out.println("\n=== Test: Batch Results in Input Order ===");
+
+        List<Scenario> scenarios = scenarios(5000);
+        BatchResult batch = new BatchCalculator(EngineMode.FAST.engine()).calculateAll(scenarios);
+
+        assertEquals(scenarios.size(), batch.getResults().size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            InvestmentResult expected = scenarios.get(i).calculate(EngineMode.FAST.engine());
+            assertEquals(expected.getEndBalance(), batch.getResults().get(i).getEndBalance(), "Scenario " + i);
+        }
+
+        System.out.println("Throughput: " + batch.getStats());
+        assertEquals(scenarios.size(), batch.getStats().getScenarioCount());
+        assertTrue(batch.getStats().getScenariosPerSecond() > 0);
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testSuppliedExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Scenario> scenarios = scenarios(300);
+            BatchResult batch = new BatchCalculator(EngineMode.EXACT.engine(), executor).calculateAll(scenarios);
+
+            for (int i = 0; i < scenarios.size(); i++) {
+                InvestmentResult expected = scenarios.get(i).calculate(EngineMode.EXACT.engine());
+                assertEquals(expected.getEndBalance(), batch.getResults().get(i).getEndBalance());
+            }
+            assertEquals(3, batch.getStats().getParallelism());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testSmallCostlyBatchSpreadsOverWorkers() throws Exception {
+        System.out.println("\n=== Test: Small Batch Uses Every Worker ===");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // 40 slow scenarios: slices of 40 / (4 * 4) = 2, not one sequential leaf
+            Set<Thread> workers = ConcurrentHashMap.newKeySet();
+            InvestmentEngine exact = EngineMode.EXACT.engine();
+            InvestmentEngine slow = (start, years, rate, frequency, contribution, perYear, atBeginning) -> {
+                workers.add(Thread.currentThread());
+                sleepQuietly(5);
+                return exact.calculateInvestment(start, years, rate, frequency, contribution, perYear, atBeginning);
+            };
+            BatchCalculator calculator = new BatchCalculator(slow, pool);
+            assertEquals(2, calculator.sliceSize(40));
+            assertEquals(1, calculator.sliceSize(3));
+            assertEquals(6, calculator.sliceSize(100));
+
+            List<Scenario> scenarios = scenarios(40);
+            BatchResult batch = calculator.calculateAll(scenarios);
+            assertEquals(scenarios.get(39).calculate(exact).getEndBalance(), batch.getResults().get(39).getEndBalance());
+            assertTrue(workers.size() > 1, "only " + workers.size() + " worker thread used");
+            System.out.println(scenarios.size() + " scenarios ran on " + workers.size() + " worker threads");
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testStreamingCallback() {
+        int count = BatchCalculator.STREAM_CHUNK_SIZE * 2 + 17;
+        List<Scenario> scenarios = scenarios(count);
+        ConcurrentHashMap<Long, InvestmentResult> received = new ConcurrentHashMap<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        BatchStats stats = new BatchCalculator(EngineMode.FAST.engine()).calculateEach(
+            scenarios.stream(), (index, scenario, result) -> {
+                calls.incrementAndGet();
+                assertSame(scenarios.get((int) index), scenario);
+                received.put(index, result);
+            });
+
+        assertEquals(count, stats.getScenarioCount());
+        assertEquals(count, calls.get());
+        assertEquals(count, received.size());
+        assertEquals(scenarios.get(count - 1).calculate(EngineMode.FAST.engine()).getEndBalance(),
+            received.get((long) count - 1).getEndBalance());
+    }
+
+    @Test
+    void testFailurePropagates() {
+        List<Scenario> scenarios = new ArrayList<>(scenarios(100));
+        scenarios.set(57, new Scenario(null, 10, BigDecimal.ONE, "Monthly", BigDecimal.ZERO, 12, true));
+
+        assertThrows(NullPointerException.class,
+            () -> new BatchCalculator(EngineMode.FAST.engine()).calculateAll(scenarios));
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<Scenario> scenarios(int count) {
+        List<Scenario> scenarios = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            scenarios.add(new Scenario(
+                BigDecimal.valueOf(1000 + 10L * i),
+                1 + i % 40,
+                BigDecimal.valueOf(i % 15),
+                FREQUENCIES[i % FREQUENCIES.length],
+                BigDecimal.valueOf(1200 - (i % 7) * 300),
+                CONTRIBUTIONS_PER_YEAR[i % CONTRIBUTIONS_PER_YEAR.length],
+                i % 2 == 0));
+        }
+        return scenarios;
+    }
+}
@@ -0,0 +1,119 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class BatchCliTest {
+
+    @Test
+    void testRowsMatchSummaryInInputOrder() throws Exception {
+        System.out.println("\n=== Test: Batch CLI Rows and Order ===");
+
+        String[] frequencies = {"Annually", "quarterly", "Monthly", "WEEKLY", "Daily"};
+        StringBuilder input = new StringBuilder("startingAmount,years,rate,frequency,contribution,perYear,atBeginning\n");
+        int scenarios = 5000; // several chunks
+        for (int i = 0; i < scenarios; i++) {
+            input.append(1000 + i).append(',').append(1 + i % 40).append(',').append(i % 12).append(".5,")
+                 .append(frequencies[i % 5]).append(',').append(100 * (i % 9)).append(',')
+                 .append(new int[] {1, 4, 12}[i % 3]).append(',').append(i % 2 == 0 ? "beginning" : "false").append('\n');
+            if (i == 10) input.append("\n");
+        }
+
+        StringWriter output = new StringWriter();
+        long count = BatchCli.run(new StringReader(input.toString()), output, 4);
+        assertEquals(scenarios, count);
+
+        List<String> lines = Arrays.asList(output.toString().split("\n"));
+        assertEquals(BatchCli.HEADER, lines.get(0));
+        assertEquals(scenarios + 1, lines.size());
+
+        FinalInvestmentEngine engine = new FinalInvestmentEngine();
+        for (int i = 0; i < scenarios; i += 97) {
+            String[] fields = lines.get(i + 1).split(",");
+            assertEquals(String.valueOf(1000 + i), fields[0], "row " + i + " out of order");
+            InvestmentResult expected = engine.calculateSummary(new BigDecimal(fields[0]), Integer.parseInt(fields[1]),
+                new BigDecimal(fields[2]), fields[3], new BigDecimal(fields[4]), Integer.parseInt(fields[5]),
+                Boolean.parseBoolean(fields[6]));
+            assertEquals(expected.getEndBalance().setScale(2, RoundingMode.HALF_UP).toPlainString(), fields[7]);
+            assertEquals(expected.getTotalInterest().setScale(2, RoundingMode.HALF_UP).toPlainString(), fields[9]);
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testInvalidLineIsReported() {
+        String input = "1000,10,7,Monthly,1200,12,true\n"
+                     + "1000,10,7,Monthly,1200,12,true\n"
+                     + "1000,ten,7,Monthly,1200,12,true\n";
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> BatchCli.run(new StringReader(input), new StringWriter(), 2));
+        assertTrue(e.getMessage().startsWith("Line 3:"), e.getMessage());
+
+        IllegalArgumentException frequency = assertThrows(IllegalArgumentException.class,
+            () -> BatchCli.run(new StringReader("1000,10,7,Hourly,1200,12,true\n"), new StringWriter(), 2));
+        assertTrue(frequency.getMessage().contains("Hourly"), frequency.getMessage());
+    }
+
+    @Test
+    void testHeadlessProcess(@TempDir Path dir) throws Exception {
+        System.out.println("\n=== Test: Batch CLI in a Separate JVM ===");
+
+        Path in = dir.resolve("scenarios.csv");
+        Path out = dir.resolve("results.csv");
+        Path classLog = dir.resolve("classes.log");
+        Files.write(in, Arrays.asList("10000,30,7,Monthly,6000,12,true", "5000,10,4.5,Annually,0,1,false"),
+            StandardCharsets.UTF_8);
+
+        ProcessBuilder builder = new ProcessBuilder(
+            System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+            "-Xlog:class+load=info:file=" + classLog,
+            "-cp", System.getProperty("java.class.path"),
+            "com.investmentcalc.BatchCli", "--input", in.toString(), "--output", out.toString());
+        builder.redirectErrorStream(true);
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        String console = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(0, process.exitValue(), console);
+
+        List<String> rows = Files.readAllLines(out, StandardCharsets.UTF_8);
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(2).startsWith("5000,10,4.5,Annually,0,1,false,"), rows.get(2));
+
+        String loaded = new String(Files.readAllBytes(classLog), StandardCharsets.UTF_8);
+        assertTrue(loaded.contains("com.investmentcalc.BatchCli"), "class loading was not logged");
+        assertFalse(loaded.contains(" java.awt."), "java.awt loaded");
+        assertFalse(loaded.contains(" javax.swing."), "javax.swing loaded");
+        System.out.println("Process finished in " + millis + " ms without loading AWT or Swing");
+
+        // Bad input exits with status 1 and the line number
+        Files.write(in, Arrays.asList("10000,30,7,Monthly,6000,12,maybe"), StandardCharsets.UTF_8);
+        Process failing = new ProcessBuilder(
+            System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+            "-cp", System.getProperty("java.class.path"),
+            "com.investmentcalc.BatchCli", "--input", in.toString(), "--output", out.toString())
+            .redirectErrorStream(true).start();
+        String error = new String(failing.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertTrue(failing.waitFor(30, TimeUnit.SECONDS));
+        assertEquals(1, failing.exitValue());
+        assertTrue(error.contains("Line 1"), error);
+
+        System.out.println("Result:   ✅ PASS");
+    }
+}
@@ -0,0 +1,80 @@
+package com.investmentcalc;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the scalar batch kernel with the Vector API kernel at 128, 256 and 512-bit
+ * lane widths on the Monte Carlo/sweep update "balance = balance * m + c" over 1024
+ * lanes. The vector width is fixed per JVM, so each width is measured in its own child
+ * JVM. Run after mvn test-compile (Java 17+) with:
+ * java --add-modules jdk.incubator.vector -Dinvestmentcalc.vector=true
+ *      -cp target/classes:target/classes/META-INF/versions/17:target/test-classes
+ *      com.investmentcalc.BatchKernelBenchmark
+ * Without those options only the scalar kernel is measured.
+ */
+public class BatchKernelBenchmark {
+
+    private static final int LANES = 1024;
+    private static final int MONTHS = 1200;
+    private static final int ROUNDS = 400;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("measure")) {
+            measure(BatchKernels.vector() != null ? BatchKernels.vector() : BatchKernels.scalar());
+            return;
+        }
+
+        measure(BatchKernels.scalar());
+        if (BatchKernels.vector() == null) {
+            System.out.println("Vector kernel not enabled (Java 17+ with --add-modules jdk.incubator.vector"
+                + " -D" + BatchKernels.VECTOR_PROPERTY + "=true)");
+            return;
+        }
+        for (int bits : new int[] {128, 256, 512}) {
+            List<String> command = new ArrayList<>(Arrays.asList(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "--add-modules", "jdk.incubator.vector",
+                "-D" + BatchKernels.VECTOR_PROPERTY + "=true",
+                "-D" + BatchKernels.VECTOR_BITS_PROPERTY + "=" + bits,
+                "-cp", System.getProperty("java.class.path"),
+                BatchKernelBenchmark.class.getName(), "measure"));
+            Process child = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = new String(child.getInputStream().readAllBytes()).trim();
+            child.waitFor();
+            for (String line : output.split("\\R")) {
+                if (!line.startsWith("WARNING")) System.out.println(line);
+            }
+        }
+    }
+
+    private static void measure(BatchKernel kernel) {
+        SplittableRandom random = new SplittableRandom(1);
+        double[] multipliers = random.doubles(LANES, 0.98, 1.02).toArray();
+        double[] balances = new double[LANES];
+
+        // Warm up, then measure
+        run(kernel, balances, multipliers, ROUNDS / 4);
+        long startNanos = System.nanoTime();
+        double checksum = run(kernel, balances, multipliers, ROUNDS);
+        double nanosPerLaneMonth = (double) (System.nanoTime() - startNanos) / ((long) ROUNDS * MONTHS * LANES);
+        System.out.printf("%-16s %2d lanes: %.3f ns per scenario-month (checksum %.6e)%n",
+            kernel.name(), kernel.lanes(), nanosPerLaneMonth, checksum);
+    }
+
+    private static double run(BatchKernel kernel, double[] balances, double[] multipliers, int rounds) {
+        double checksum = 0;
+        for (int r = 0; r < rounds; r++) {
+            Arrays.fill(balances, 1000.0);
+            for (int month = 0; month < MONTHS; month++) {
+                kernel.step(balances, multipliers, month % 3 == 0 ? 100.0 : 0.0, false, balances.length);
+            }
+            checksum += balances[r % balances.length];
+        }
+        return checksum;
+    }
+}
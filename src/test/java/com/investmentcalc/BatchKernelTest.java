@@ -0,0 +1,75 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+public class BatchKernelTest {
+
+    @Test
+    void testKernelsMatchScalarExactly() {
+        System.out.println("\n=== Test: Batch Kernels ===");
+
+        List<BatchKernel> kernels = new ArrayList<>();
+        if (BatchKernels.vector() != null) kernels.add(BatchKernels.vector());
+        System.out.println("Preferred kernel: " + BatchKernels.preferred().name());
+        if (kernels.isEmpty()) {
+            System.out.println("Vector API not available, only the scalar kernel is checked");
+        }
+        kernels.add(BatchKernels.scalar());
+
+        SplittableRandom random = new SplittableRandom(7);
+        for (int length : new int[] {0, 1, 3, 8, 17, 1000, 1023}) {
+            double[] start = random.doubles(length, -1000, 100000).toArray();
+            double[] multipliers = random.doubles(length, 0.95, 1.05).toArray();
+
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                double[] expected = start.clone();
+                for (int month = 0; month < 24; month++) {
+                    BatchKernels.scalar().step(expected, multipliers, month % 3 == 0 ? 250.0 : 0.0, atBeginning, length);
+                    BatchKernels.scalar().grow(expected, multipliers, length);
+                }
+
+                for (BatchKernel kernel : kernels) {
+                    double[] actual = start.clone();
+                    for (int month = 0; month < 24; month++) {
+                        kernel.step(actual, multipliers, month % 3 == 0 ? 250.0 : 0.0, atBeginning, length);
+                        kernel.grow(actual, multipliers, length);
+                    }
+                    assertArrayEquals(expected, actual, 0.0, kernel.name() + " length " + length);
+                }
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testEnginesGiveSameResultsWithEitherKernel() {
+        BatchKernel preferred = BatchKernels.preferred();
+        BatchKernel scalar = BatchKernels.scalar();
+
+        double[] rates = SweepGridEngine.axis(-5, 20, 0.05);
+        int[] years = SweepGridEngine.yearsAxis(0, 40);
+        double[] contributions = {0, 1200, -600};
+        SweepGrid fast = new SweepGridEngine(preferred).sweep(10000, rates, years, contributions, "Monthly", 4, true);
+        SweepGrid plain = new SweepGridEngine(scalar).sweep(10000, rates, years, contributions, "Monthly", 4, true);
+        assertArrayEquals(plain.getEndBalances(), fast.getEndBalances(), 0.0);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            MonteCarloResult a = new MonteCarloEngine(pool, preferred).simulate(
+                10000, 20, 7, 15, 6000, 12, false, 3000, 42L, 300000);
+            MonteCarloResult b = new MonteCarloEngine(pool, scalar).simulate(
+                10000, 20, 7, 15, 6000, 12, false, 3000, 42L, 300000);
+            assertArrayEquals(b.getP50(), a.getP50());
+            assertEquals(b.getProbabilityOfReachingTarget(), a.getProbabilityOfReachingTarget());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
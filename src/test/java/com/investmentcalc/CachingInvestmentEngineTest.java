@@ -0,0 +1,170 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachingInvestmentEngineTest {
+
+    @Test
+    void testScaleDifferencesShareAnEntry() {
+        System.out.println("\n=== Test: Cache Key Normalization ===");
+
+        CountingEngine counting = new CountingEngine(new FinalInvestmentEngine());
+        CachingInvestmentEngine cache = new CachingInvestmentEngine(counting);
+
+        InvestmentResult first = cache.calculateInvestment(
+            new BigDecimal("20000"), 10, new BigDecimal("7"), "Monthly", new BigDecimal("12000"), 12, true);
+        InvestmentResult second = cache.calculateInvestment(
+            new BigDecimal("20000.00"), 10, new BigDecimal("7.00"), "Monthly", new BigDecimal("1.2E+4"), 12, true);
+        InvestmentResult zeroes = cache.calculateInvestment(
+            new BigDecimal("0.00"), 10, new BigDecimal("0.0"), "Monthly", new BigDecimal("0"), 12, true);
+        cache.calculateInvestment(
+            BigDecimal.ZERO, 10, BigDecimal.ZERO, "Monthly", new BigDecimal("0.000"), 12, true);
+
+        assertSame(first, second);
+        assertEquals(2, counting.calls.get());
+        assertEquals(0, zeroes.getEndBalance().signum());
+
+        CacheStats stats = cache.getStats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getEntryCount());
+        assertEquals(2 * (120 + 10), stats.getTotalWeight());
+        System.out.println(stats);
+
+        // Any real input change misses
+        cache.calculateInvestment(
+            new BigDecimal("20000"), 10, new BigDecimal("7"), "Monthly", new BigDecimal("12000"), 12, false);
+        assertEquals(3, counting.calls.get());
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        CountingEngine counting = new CountingEngine(new FinalInvestmentEngine());
+        // Room for three 10-year results (130 rows each)
+        CachingInvestmentEngine cache = new CachingInvestmentEngine(counting, 3 * 130);
+
+        Scenario a = scenario(1);
+        Scenario b = scenario(2);
+        Scenario c = scenario(3);
+        Scenario d = scenario(4);
+        cache.get(a);
+        cache.get(b);
+        cache.get(c);
+        cache.get(a); // a becomes most recently used, b is now the eldest
+        cache.get(d);
+
+        assertEquals(1, cache.getStats().getEvictionCount());
+        assertEquals(3, cache.getStats().getEntryCount());
+        assertEquals(4, counting.calls.get());
+
+        cache.get(a);
+        cache.get(c);
+        cache.get(d);
+        assertEquals(4, counting.calls.get(), "a, c and d should still be cached");
+        cache.get(b);
+        assertEquals(5, counting.calls.get(), "b should have been evicted");
+
+        // A result heavier than the whole cache is returned but not kept
+        CachingInvestmentEngine tiny = new CachingInvestmentEngine(counting, 10);
+        assertNotNull(tiny.get(a));
+        assertEquals(0, tiny.getStats().getEntryCount());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.getStats().getTotalWeight());
+    }
+
+    @Test
+    void testConcurrentMissesComputeOnce() throws Exception {
+        System.out.println("\n=== Test: Cache Single-Flight Loading ===");
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        FinalInvestmentEngine real = new FinalInvestmentEngine();
+        InvestmentEngine slow = (s, y, r, f, c, n, b) -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return real.calculateInvestment(s, y, r, f, c, n, b);
+        };
+        CachingInvestmentEngine cache = new CachingInvestmentEngine(slow);
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<InvestmentResult>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> cache.get(scenario(1))));
+            }
+            // Let every thread reach the cache before the single load finishes
+            while (cache.getStats().getMissCount() < threads) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            InvestmentResult first = futures.get(0).get();
+            for (Future<InvestmentResult> future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        System.out.println(cache.getStats());
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testFailuresAreNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        InvestmentEngine failing = (s, y, r, f, c, n, b) -> {
+            calls.incrementAndGet();
+            throw new ArithmeticException("boom");
+        };
+        CachingInvestmentEngine cache = new CachingInvestmentEngine(failing);
+
+        assertThrows(ArithmeticException.class, () -> cache.get(scenario(1)));
+        assertThrows(ArithmeticException.class, () -> cache.get(scenario(1)));
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.getStats().getEntryCount());
+    }
+
+    private static Scenario scenario(int seed) {
+        return new Scenario(BigDecimal.valueOf(1000L * seed), 10, new BigDecimal("6"), "Monthly",
+            new BigDecimal("1200"), 12, false);
+    }
+
+    private static final class CountingEngine implements InvestmentEngine {
+        final InvestmentEngine delegate;
+        final AtomicInteger calls = new AtomicInteger();
+
+        CountingEngine(InvestmentEngine delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InvestmentResult calculateInvestment(BigDecimal startingAmount, int years, BigDecimal annualReturnRate,
+                                                    CompoundingFrequency compoundingFrequency, BigDecimal additionalContribution,
+                                                    int contributionsPerYear, boolean contributeAtBeginning) {
+            calls.incrementAndGet();
+            return delegate.calculateInvestment(startingAmount, years, annualReturnRate, compoundingFrequency,
+                additionalContribution, contributionsPerYear, contributeAtBeginning);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalculationWorkerTest {
+
+    @Test
+    public void testSupersededResultIsNeverDelivered() throws Exception {
+        System.out.println("\n=== Test: Stale Calculation Suppressed ===");
+
+        AtomicLong generation = new AtomicLong();
+        List<String> painted = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        FinalInvestmentEngine engine = new FinalInvestmentEngine();
+
+        // The first request is still running when the second one starts and finishes
+        CalculationWorker<InvestmentResult> first = new CalculationWorker<>(generation.incrementAndGet(), generation::get,
+            () -> {
+                release.await();
+                return engine.calculateInvestment(new BigDecimal("1000"), 10, new BigDecimal("5"),
+                    "Monthly", BigDecimal.ZERO, 12, true);
+            },
+            r -> painted.add("first"), e -> painted.add("first error"));
+        CalculationWorker<InvestmentResult> second = new CalculationWorker<>(generation.incrementAndGet(), generation::get,
+            () -> engine.calculateInvestment(new BigDecimal("2000"), 20, new BigDecimal("5"),
+                "Daily", new BigDecimal("1200"), 12, true),
+            r -> painted.add("second " + r.getYears()), e -> painted.add("second error"));
+
+        CountDownLatch firstDone = doneLatch(first);
+        CountDownLatch secondDone = doneLatch(second);
+        first.execute();
+        second.execute();
+        await(secondDone);
+        release.countDown();
+        await(firstDone);
+
+        assertFalse(first.isCurrent());
+        assertTrue(second.isCurrent());
+        assertEquals(List.of("second 20"), painted);
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    public void testCancelInterruptsAndSuppresses() throws Exception {
+        System.out.println("\n=== Test: Cancelled Calculation ===");
+
+        AtomicLong generation = new AtomicLong(1);
+        AtomicBoolean painted = new AtomicBoolean();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch stopped = new CountDownLatch(1);
+
+        CalculationWorker<String> worker = new CalculationWorker<>(1, generation::get,
+            () -> {
+                started.countDown();
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        Thread.onSpinWait();
+                    }
+                    interrupted.set(true);
+                    return "too late";
+                } finally {
+                    stopped.countDown();
+                }
+            },
+            r -> painted.set(true), e -> painted.set(true));
+
+        CountDownLatch done = doneLatch(worker);
+        worker.execute();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        worker.cancel(true);
+        assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        await(done);
+        // Let the EDT run anything the cancelled worker might still have posted
+        SwingUtilities.invokeAndWait(() -> {});
+
+        assertTrue(interrupted.get());
+        assertTrue(worker.isCancelled());
+        assertFalse(painted.get());
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    public void testErrorOfCurrentRequestIsReported() throws Exception {
+        AtomicLong generation = new AtomicLong(3);
+        List<String> errors = new CopyOnWriteArrayList<>();
+        CalculationWorker<InvestmentResult> worker = new CalculationWorker<>(3, generation::get,
+            () -> new FinalInvestmentEngine().calculateInvestment(BigDecimal.ONE, -1, BigDecimal.ONE,
+                "Monthly", BigDecimal.ZERO, 12, true),
+            r -> errors.add("unexpected result"), e -> errors.add(e.getClass().getSimpleName()));
+
+        CountDownLatch done = doneLatch(worker);
+        worker.execute();
+        await(done);
+        assertEquals(List.of("IllegalArgumentException"), errors);
+    }
+
+    // The DONE state event is fired on the EDT after done(), so callbacks have run by then;
+    // register before execute() so the event cannot be missed
+    private static CountDownLatch doneLatch(SwingWorker<?, ?> worker) {
+        CountDownLatch done = new CountDownLatch(1);
+        worker.addPropertyChangeListener(evt -> {
+            if ("state".equals(evt.getPropertyName()) && evt.getNewValue() == SwingWorker.StateValue.DONE) {
+                done.countDown();
+            }
+        });
+        return done;
+    }
+
+    private static void await(CountDownLatch done) throws InterruptedException {
+        assertTrue(done.await(30, TimeUnit.SECONDS), "worker did not finish");
+    }
+}
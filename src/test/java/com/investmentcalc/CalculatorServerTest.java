@@ -0,0 +1,165 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class CalculatorServerTest {
+
+    private static final String SCENARIO =
+        "startingAmount=10000&years=30&rate=7&frequency=Monthly&contribution=6000&contributionsPerYear=12&atBeginning=true";
+
+    private CalculatorServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new CalculatorServer(0);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void testCalculateAndSummaryEndpoints() throws Exception {
+        System.out.println("\n=== Test: HTTP Calculate and Summary ===");
+
+        InvestmentResult expected = new FinalInvestmentEngine().calculateInvestment(new BigDecimal("10000"), 30,
+            new BigDecimal("7"), "Monthly", new BigDecimal("6000"), 12, true);
+        String cents = expected.getEndBalance().setScale(2, RoundingMode.HALF_UP).toPlainString();
+
+        HttpResponse<String> calculate = get("/calculate?" + SCENARIO);
+        assertEquals(200, calculate.statusCode());
+        assertTrue(calculate.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        assertEquals(cents, number(calculate.body(), "endBalance"));
+        assertEquals(30, count(calculate.body(), "\"year\":"));
+
+        HttpResponse<String> summary = get("/summary?" + SCENARIO);
+        assertEquals(200, summary.statusCode());
+        assertEquals(cents, number(summary.body(), "endBalance"));
+        assertFalse(summary.body().contains("yearly"));
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testScheduleIsStreamed() throws Exception {
+        System.out.println("\n=== Test: HTTP Streamed Schedule ===");
+
+        HttpResponse<String> monthly = get("/schedule?" + SCENARIO.replace("years=30", "years=100"));
+        assertEquals(200, monthly.statusCode());
+        assertEquals("chunked", monthly.headers().firstValue("Transfer-Encoding").orElse(""));
+        assertEquals(1200, count(monthly.body(), "\"month\":"));
+        assertTrue(monthly.body().startsWith("[{\"month\":\"Year 1, Month 1\""));
+        assertTrue(monthly.body().endsWith("}]"));
+
+        HttpResponse<String> yearly = get("/schedule?" + SCENARIO + "&period=yearly");
+        assertEquals(30, count(yearly.body(), "\"year\":"));
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testBadRequests() throws Exception {
+        HttpResponse<String> missing = get("/summary?years=10&rate=5");
+        assertEquals(400, missing.statusCode());
+        assertTrue(missing.body().contains("startingAmount"), missing.body());
+
+        assertEquals(400, get("/summary?startingAmount=1&years=10&rate=5&frequency=Hourly").statusCode());
+        assertEquals(400, get("/summary?startingAmount=abc&years=10&rate=5").statusCode());
+        assertEquals(400, get("/calculate?startingAmount=1&years=5000&rate=5").statusCode());
+        assertEquals(400, get("/schedule?" + SCENARIO + "&period=daily").statusCode());
+
+        HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri("/summary?" + SCENARIO))
+            .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, post.statusCode());
+    }
+
+    @Test
+    void testLoadAndLatencyPercentiles() throws Exception {
+        System.out.println("\n=== Test: HTTP Load ===");
+
+        int threads = 16;
+        int perThread = 300;
+        ExecutorService clients = Executors.newFixedThreadPool(threads);
+        try {
+            // Warm up, then measure
+            for (int round = 0; round < 2; round++) {
+                long start = System.nanoTime();
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    int offset = t;
+                    futures.add(clients.submit(() -> {
+                        int ok = 0;
+                        for (int i = 0; i < perThread; i++) {
+                            String query = "startingAmount=" + (1000 + offset * perThread + i)
+                                + "&years=" + (1 + i % 50) + "&rate=6.5&contribution=1200";
+                            if (get("/summary?" + query).statusCode() == 200) ok++;
+                        }
+                        return ok;
+                    }));
+                }
+                int ok = 0;
+                for (Future<Integer> f : futures) {
+                    ok += f.get(2, TimeUnit.MINUTES);
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                assertEquals(threads * perThread, ok);
+                if (round == 1) {
+                    System.out.printf("%d requests in %.2f s: %.0f requests/sec (%s)%n", ok, seconds, ok / seconds,
+                        server.isUsingVirtualThreads() ? "virtual threads" : "thread pool");
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        long[] micros = server.getLatencyPercentilesMicros();
+        assertTrue(micros[0] > 0 && micros[0] <= micros[1] && micros[1] <= micros[2] && micros[2] <= micros[3]);
+        HttpResponse<String> stats = get("/stats");
+        assertEquals(String.valueOf(server.getRequestCount()), number(stats.body(), "requests"));
+        System.out.println("Server latency: " + stats.body());
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+
+    private static String number(String json, String field) {
+        Matcher m = Pattern.compile("\"" + field + "\":(-?[0-9.]+)").matcher(json);
+        assertTrue(m.find(), field + " missing from " + json);
+        return m.group(1);
+    }
+
+    private static int count(String text, String token) {
+        int n = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + 1)) n++;
+        return n;
+    }
+}
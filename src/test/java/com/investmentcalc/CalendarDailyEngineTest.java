@@ -0,0 +1,161 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.List;
+
+public class CalendarDailyEngineTest {
+
+    private static final BigDecimal TOLERANCE = new BigDecimal("0.000001");
+
+    private final CalendarDailyEngine engine = new CalendarDailyEngine();
+
+    @Test
+    void testLeapYearCompounds366Days() {
+        System.out.println("\n=== Test: Leap Year Uses 366 Daily Periods ===");
+
+        BigDecimal start = new BigDecimal("10000");
+        BigDecimal rate = new BigDecimal("6");
+        CalendarResult leap = engine.calculate(start, LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1),
+            rate, BigDecimal.ZERO, 12, true);
+        CalendarResult common = engine.calculate(start, LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1),
+            rate, BigDecimal.ZERO, 12, true);
+
+        assertEquals(366, leap.getTotalDays());
+        assertEquals(365, common.getTotalDays());
+        assertEquals(29, leap.getMonths().get(1).getDays());
+        assertEquals(28, common.getMonths().get(1).getDays());
+
+        MathContext mc = MathContext.DECIMAL128;
+        BigDecimal expectedLeap = start.multiply(BigDecimal.ONE.add(new BigDecimal("0.06").divide(new BigDecimal("366"), mc)).pow(366, mc));
+        BigDecimal expectedCommon = start.multiply(BigDecimal.ONE.add(new BigDecimal("0.06").divide(new BigDecimal("365"), mc)).pow(365, mc));
+        assertClose(expectedLeap, leap.getEndBalance(), "leap year");
+        assertClose(expectedCommon, common.getEndBalance(), "common year");
+
+        // A common year agrees with the fixed 365-period "Daily" frequency
+        InvestmentResult fixed = new FinalInvestmentEngine().calculateInvestment(start, 1, rate, "Daily",
+            BigDecimal.ZERO, 12, true);
+        assertTrue(fixed.getEndBalance().subtract(common.getEndBalance()).abs().compareTo(new BigDecimal("0.01")) <= 0,
+            "fixed Daily " + fixed.getEndBalance() + " vs calendar " + common.getEndBalance());
+
+        System.out.println("2023: " + common.getEndBalance() + ", 2024: " + leap.getEndBalance());
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testMatchesDayByDayStepping() {
+        System.out.println("\n=== Test: Fast-Forward vs Day-by-Day ===");
+
+        LocalDate from = LocalDate.of(2023, 11, 17);
+        LocalDate to = LocalDate.of(2027, 3, 5);
+        for (int perYear : new int[] {1, 4, 12, 7}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                CalendarResult result = engine.calculate(new BigDecimal("5000"), from, to, new BigDecimal("4.5"),
+                    new BigDecimal("2400"), perYear, atBeginning);
+                BigDecimal expected = stepDays(new BigDecimal("5000"), from, to, new BigDecimal("4.5"),
+                    new BigDecimal("2400"), perYear, atBeginning);
+                assertClose(expected, result.getEndBalance(), perYear + "/yr, beginning=" + atBeginning);
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRollupsCoverEveryDay() {
+        System.out.println("\n=== Test: Month and Year Rollups ===");
+
+        LocalDate from = LocalDate.of(2024, 1, 31);
+        LocalDate to = LocalDate.of(2026, 6, 10);
+        CalendarResult result = engine.calculate(new BigDecimal("1000"), from, to, new BigDecimal("7"),
+            new BigDecimal("1200"), 12, false);
+
+        List<CalendarPeriod> months = result.getMonths();
+        List<CalendarPeriod> years = result.getYears();
+        assertEquals(29, months.size());
+        assertEquals(3, years.size());
+        assertEquals(LocalDate.of(2024, 2, 29), months.get(0).getEndDate());
+        assertEquals(LocalDate.of(2024, 3, 31), months.get(1).getEndDate());
+        assertEquals(LocalDate.of(2025, 1, 31), years.get(0).getEndDate());
+
+        long monthDays = months.stream().mapToLong(CalendarPeriod::getDays).sum();
+        long yearDays = years.stream().mapToLong(CalendarPeriod::getDays).sum();
+        assertEquals(result.getTotalDays(), monthDays);
+        assertEquals(result.getTotalDays(), yearDays);
+        assertEquals(366, years.get(0).getDays());
+
+        // Partial last month: no end-of-period contribution
+        assertEquals(0, months.get(months.size() - 1).getContributions().signum());
+
+        BigDecimal yearInterest = years.stream().map(CalendarPeriod::getInterestEarned).reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, yearInterest.compareTo(result.getTotalInterest()));
+        assertEquals(0, years.get(2).getEndBalance().compareTo(result.getEndBalance()));
+
+        InvestmentResult asResult = result.toInvestmentResult();
+        assertEquals(29, asResult.getMonthlyData().size());
+        assertEquals("2024-01-31", asResult.getMonthlyData().get(0).getMonth());
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testHundredYears() {
+        System.out.println("\n=== Test: 100-Year Calendar Schedule ===");
+
+        long startNanos = System.nanoTime();
+        CalendarResult result = engine.calculate(new BigDecimal("10000"), LocalDate.of(2000, 1, 1),
+            LocalDate.of(2100, 1, 1), new BigDecimal("7"), new BigDecimal("6000"), 12, true);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        assertEquals(1200, result.getMonths().size());
+        assertEquals(100, result.getYears().size());
+        assertEquals(36525, result.getTotalDays()); // 2000 is a leap year, 2100 is not in range
+        System.out.println("100 years in " + elapsedMillis + " ms, end balance " + result.getEndBalance());
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRejectsReversedDates() {
+        assertThrows(IllegalArgumentException.class, () -> engine.calculate(BigDecimal.ONE,
+            LocalDate.of(2025, 1, 1), LocalDate.of(2024, 1, 1), BigDecimal.ONE, BigDecimal.ZERO, 12, true));
+        CalendarResult empty = engine.calculate(BigDecimal.TEN, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 1),
+            BigDecimal.ONE, BigDecimal.ZERO, 12, true);
+        assertEquals(0, empty.getMonths().size());
+        assertEquals(0, empty.getEndBalance().compareTo(BigDecimal.TEN));
+    }
+
+    // Reference: one day at a time, contributions on the same dates as the engine
+    private static BigDecimal stepDays(BigDecimal start, LocalDate from, LocalDate to, BigDecimal rate,
+                                       BigDecimal contribution, int perYear, boolean atBeginning) {
+        MathContext mc = MathContext.DECIMAL128;
+        BigDecimal r = rate.divide(BigDecimal.valueOf(100), mc);
+        BigDecimal perEvent = FinalInvestmentEngine.contributionPerEvent(contribution, perYear);
+        int interval = FinalInvestmentEngine.contributionIntervalMonths(perYear);
+
+        BigDecimal balance = start;
+        int k = 0;
+        LocalDate next = from.plusMonths(1);
+        if (atBeginning) balance = balance.add(perEvent);
+        for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+            if (day.equals(next)) {
+                k++;
+                next = from.plusMonths(k + 1);
+                if (atBeginning && k % interval == 0) balance = balance.add(perEvent);
+            }
+            BigDecimal daily = r.divide(BigDecimal.valueOf(day.lengthOfYear()), mc);
+            balance = balance.add(balance.multiply(daily, mc), mc);
+            if (!atBeginning && day.plusDays(1).equals(next) && k % interval == 0) balance = balance.add(perEvent);
+        }
+        return balance;
+    }
+
+    private static void assertClose(BigDecimal expected, BigDecimal actual, String where) {
+        assertTrue(expected.subtract(actual).abs().compareTo(TOLERANCE) <= 0,
+            where + ": expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,85 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompactInvestmentResultTest {
+
+    private final DoubleInvestmentEngine engine = new DoubleInvestmentEngine();
+
+    @Test
+    void testViewsAreBuiltFromColumns() {
+        InvestmentResult result = engine.calculateInvestment(
+            new BigDecimal("1000"), 2, new BigDecimal("10"), "Annually",
+            new BigDecimal("1000"), 1, true);
+
+        assertTrue(result instanceof CompactInvestmentResult);
+        assertEquals(24, result.getMonthlyRowCount());
+        assertEquals(2, result.getYearlyRowCount());
+
+        List<MonthlyData> months = result.getMonthlyData();
+        assertEquals(24, months.size());
+        assertEquals("Year 1, Month 1", months.get(0).getMonth());
+        assertEquals("Year 2, Month 12", months.get(23).getMonth());
+        assertEquals(1000.0, months.get(12).getContributions().doubleValue(), 1e-9);
+
+        List<YearlyData> years = result.getYearlyData();
+        assertEquals(2, years.get(1).getYear());
+        assertEquals(2200.0, years.get(0).getEndBalance().doubleValue(), 1e-6);
+        assertEquals(3520.0, years.get(1).getEndBalance().doubleValue(), 1e-6);
+        assertEquals(3520.0, result.getEndBalance().doubleValue(), 1e-6);
+        assertEquals(3000.0, result.getTotalContributions().doubleValue(), 1e-9);
+        assertEquals(520.0, result.getTotalInterest().doubleValue(), 1e-6);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> months.get(24));
+        assertThrows(UnsupportedOperationException.class, () -> months.add(months.get(0)));
+    }
+
+    @Test
+    void testHeapFootprintAgainstListRepresentation() throws Exception {
+        System.out.println("\n=== Test: Compact vs List Heap Footprint ===");
+
+        int copies = 50;
+        int years = 100;
+        FinalInvestmentEngine exact = new FinalInvestmentEngine();
+
+        List<InvestmentResult> held = new ArrayList<>();
+        long baseline = usedHeapAfterGc();
+        for (int i = 0; i < copies; i++) {
+            held.add(exact.calculateInvestment(new BigDecimal("20000"), years, new BigDecimal("7"), "Monthly",
+                new BigDecimal(12000 + i), 12, true));
+        }
+        long listBytes = usedHeapAfterGc() - baseline;
+        held.clear();
+
+        baseline = usedHeapAfterGc();
+        for (int i = 0; i < copies; i++) {
+            held.add(engine.calculateInvestment(new BigDecimal("20000"), years, new BigDecimal("7"), "Monthly",
+                new BigDecimal(12000 + i), 12, true));
+        }
+        long compactBytes = usedHeapAfterGc() - baseline;
+
+        int rows = copies * years * 12;
+        System.out.printf("List representation:    %,d bytes (%.1f bytes/month)%n", listBytes, (double) listBytes / rows);
+        System.out.printf("Compact representation: %,d bytes (%.1f bytes/month)%n", compactBytes, (double) compactBytes / rows);
+
+        boolean passed = compactBytes * 4 < listBytes;
+        System.out.printf("Result:   %s (compact should be at least 4x smaller)%n", passed ? "✅ PASS" : "❌ FAIL");
+
+        assertEquals(copies, held.size());
+        assertTrue(passed, "Compact results should use far less heap than MonthlyData lists");
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,99 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+public class CompoundingFrequencyTest {
+
+    @Test
+    void testLabelsAndPeriods() {
+        assertEquals(CompoundingFrequency.WEEKLY, CompoundingFrequency.fromLabel("Weekly"));
+        assertEquals(365, CompoundingFrequency.fromLabel("Daily").getPeriodsPerYear());
+        assertEquals(4, FinalInvestmentEngine.getCompoundingPeriods("Quarterly"));
+        // Unknown labels keep compounding monthly
+        assertEquals(CompoundingFrequency.MONTHLY, CompoundingFrequency.fromLabel("Fortnightly"));
+        assertEquals(CompoundingFrequency.MONTHLY, CompoundingFrequency.fromLabel(null));
+        assertEquals("Annually", CompoundingFrequency.ANNUALLY.toString());
+    }
+
+    @Test
+    void testCachedMultiplierMatchesDirectComputation() {
+        System.out.println("\n=== Test: Monthly Factor Cache ===");
+
+        for (CompoundingFrequency frequency : CompoundingFrequency.values()) {
+            for (String rate : new String[] {"0", "3.25", "7", "-12.5", "150"}) {
+                double direct = FinalInvestmentEngine.monthlyMultiplier(new BigDecimal(rate), frequency.getPeriodsPerYear());
+                assertEquals(direct, frequency.monthlyMultiplier(new BigDecimal(rate)), 0.0);
+                assertEquals(direct, frequency.monthlyMultiplier(new BigDecimal(rate).setScale(4)), 0.0);
+            }
+        }
+
+        int before = CompoundingFrequency.DAILY.cachedRateCount();
+        CompoundingFrequency.DAILY.monthlyMultiplier(new BigDecimal("4.123"));
+        CompoundingFrequency.DAILY.monthlyMultiplier(new BigDecimal("4.1230"));
+        CompoundingFrequency.DAILY.monthlyMultiplier(new BigDecimal("4.12300"));
+        assertEquals(before + 1, CompoundingFrequency.DAILY.cachedRateCount());
+
+        int lookups = 200_000;
+        BigDecimal rate = new BigDecimal("6.75");
+        long startNanos = System.nanoTime();
+        double sink = 0;
+        for (int i = 0; i < lookups; i++) {
+            sink += FinalInvestmentEngine.monthlyMultiplier(rate, 52);
+        }
+        double directNanos = (double) (System.nanoTime() - startNanos) / lookups;
+        startNanos = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            sink += CompoundingFrequency.WEEKLY.monthlyMultiplier(rate);
+        }
+        double cachedNanos = (double) (System.nanoTime() - startNanos) / lookups;
+        System.out.printf("Monthly multiplier: %.0f ns computed, %.0f ns cached (checksum %.3f)%n",
+            directNanos, cachedNanos, sink);
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testCacheIsBounded() {
+        for (int i = 0; i < CompoundingFrequency.MAX_CACHED_RATES + 10; i++) {
+            CompoundingFrequency.ANNUALLY.monthlyMultiplier(BigDecimal.valueOf(i, 4));
+        }
+        // Overflow trims the cache instead of emptying it
+        int cached = CompoundingFrequency.ANNUALLY.cachedRateCount();
+        assertTrue(cached <= CompoundingFrequency.MAX_CACHED_RATES);
+        assertTrue(cached > CompoundingFrequency.MAX_CACHED_RATES / 2, "cache was flushed: " + cached);
+
+        // Sweeps compute their multipliers without going through the cache
+        int weekly = CompoundingFrequency.WEEKLY.cachedRateCount();
+        new SweepGridEngine().sweep(1000, SweepGridEngine.axis(0.01, 20, 0.01), new int[] {10}, new double[] {0},
+            "Weekly", 12, true);
+        assertEquals(weekly, CompoundingFrequency.WEEKLY.cachedRateCount());
+    }
+
+    @Test
+    void testTypedOverloadMatchesLabel() {
+        FinalInvestmentEngine engine = new FinalInvestmentEngine();
+        InvestmentResult typed = engine.calculateInvestment(new BigDecimal("5000"), 5, new BigDecimal("4.5"),
+            CompoundingFrequency.QUARTERLY, new BigDecimal("1000"), 4, false);
+        InvestmentResult labelled = engine.calculateInvestment(new BigDecimal("5000"), 5, new BigDecimal("4.5"),
+            "Quarterly", new BigDecimal("1000"), 4, false);
+
+        assertEquals(labelled.getEndBalance(), typed.getEndBalance());
+        assertEquals(CompoundingFrequency.QUARTERLY, typed.getFrequency());
+        assertEquals("Quarterly", typed.getCompoundingFrequency());
+
+        InvestmentResult doubles = new DoubleInvestmentEngine().calculateInvestment(new BigDecimal("5000"), 5,
+            new BigDecimal("4.5"), "quarterly", new BigDecimal("1000"), 4, false);
+        assertEquals(typed.getEndBalance().doubleValue(), doubles.getEndBalance().doubleValue(), 1e-6);
+
+        // The label overloads parse strictly instead of falling back to monthly
+        assertThrows(IllegalArgumentException.class, () -> engine.calculateInvestment(new BigDecimal("5000"), 5,
+            new BigDecimal("4.5"), "Quartely", new BigDecimal("1000"), 4, false));
+        assertThrows(IllegalArgumentException.class, () -> new Scenario(new BigDecimal("5000"), 5,
+            new BigDecimal("4.5"), "Quartely", new BigDecimal("1000"), 4, false));
+        assertEquals(CompoundingFrequency.QUARTERLY, new Scenario(new BigDecimal("5000"), 5,
+            new BigDecimal("4.5"), "quarterly", new BigDecimal("1000"), 4, false).getFrequency());
+    }
+}
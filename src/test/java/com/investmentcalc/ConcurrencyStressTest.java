@@ -0,0 +1,153 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class ConcurrencyStressTest {
+
+    private static final int THREADS = 16;
+    private static final String[] FREQUENCIES = {"Annually", "Quarterly", "Monthly", "Weekly", "Daily"};
+
+    @Test
+    void testSharedEnginesMatchSequentialRuns() throws Exception {
+        System.out.println("\n=== Test: Shared Engines Under Concurrent Load ===");
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            scenarios.add(new Scenario(
+                BigDecimal.valueOf(1000 + 37L * i),
+                5 + i % 26,
+                BigDecimal.valueOf(i % 19 - 3).add(new BigDecimal("0.25")),
+                FREQUENCIES[i % FREQUENCIES.length],
+                BigDecimal.valueOf(600 * (i % 7)),
+                new int[] {1, 4, 12, 5}[i % 4],
+                i % 2 == 0));
+        }
+
+        InvestmentEngine[] engines = {
+            new FinalInvestmentEngine(),
+            new DoubleInvestmentEngine(),
+            new IncrementalInvestmentEngine(),
+            new CachingInvestmentEngine(new FinalInvestmentEngine(), 20_000)
+        };
+
+        for (InvestmentEngine engine : engines) {
+            // Expected results from a fresh engine, one scenario at a time
+            InvestmentEngine sequential = engine instanceof CachingInvestmentEngine
+                ? new FinalInvestmentEngine()
+                : engine.getClass().getDeclaredConstructor().newInstance();
+            List<InvestmentResult> expected = new ArrayList<>();
+            for (Scenario scenario : scenarios) {
+                expected.add(scenario.calculate(sequential));
+            }
+
+            List<InvestmentResult> actual = runConcurrently(scenarios.size(), i -> scenarios.get(i).calculate(engine));
+            for (int i = 0; i < scenarios.size(); i++) {
+                assertSameResult(expected.get(i), actual.get(i), engine.getClass().getSimpleName() + " scenario " + i);
+            }
+            System.out.println(engine.getClass().getSimpleName() + ": " + scenarios.size() + " scenarios on "
+                + THREADS + " threads match");
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testScratchBuffersAreNotShared() throws Exception {
+        System.out.println("\n=== Test: Per-Thread Scratch in Fast Paths ===");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MonteCarloEngine monteCarlo = new MonteCarloEngine(pool);
+            SweepGridEngine sweep = new SweepGridEngine();
+            double[] rates = SweepGridEngine.axis(-2, 12, 0.01);
+            int[] years = SweepGridEngine.yearsAxis(1, 40);
+            double[] contributions = {0, 1200, 6000};
+
+            MonteCarloResult mcExpected = monteCarlo.simulate(10000, 30, 7, 15, 6000, 12, true, 5000, 42L, 500000);
+            SweepGrid sweepExpected = sweep.sweep(10000, rates, years, contributions, "Monthly", 12, true);
+
+            List<Object> results = runConcurrently(THREADS * 2, i -> i % 2 == 0
+                ? monteCarlo.simulate(10000, 30, 7, 15, 6000, 12, true, 5000, 42L, 500000)
+                : sweep.sweep(10000, rates, years, contributions, "Monthly", 12, true));
+
+            for (int i = 0; i < results.size(); i++) {
+                if (i % 2 == 0) {
+                    MonteCarloResult r = (MonteCarloResult) results.get(i);
+                    assertArrayEquals(mcExpected.getP50(), r.getP50(), "Monte Carlo run " + i);
+                    assertEquals(mcExpected.getProbabilityOfReachingTarget(), r.getProbabilityOfReachingTarget());
+                } else {
+                    SweepGrid g = (SweepGrid) results.get(i);
+                    assertArrayEquals(sweepExpected.getEndBalances(), g.getEndBalances(), "sweep run " + i);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testListsAreSizedExactly() {
+        InvestmentResult result = new FinalInvestmentEngine().calculateInvestment(new BigDecimal("1000"), 7,
+            new BigDecimal("5"), "Monthly", new BigDecimal("1200"), 12, true);
+        assertEquals(84, result.getMonthlyData().size());
+        assertEquals(7, result.getYearlyData().size());
+        assertThrows(IllegalArgumentException.class, () -> new FinalInvestmentEngine().calculateInvestment(
+            BigDecimal.ONE, -1, BigDecimal.ONE, "Monthly", BigDecimal.ZERO, 12, true));
+    }
+
+    private static void assertSameResult(InvestmentResult expected, InvestmentResult actual, String where) {
+        assertEquals(0, expected.getEndBalance().compareTo(actual.getEndBalance()), where);
+        assertEquals(0, expected.getTotalContributions().compareTo(actual.getTotalContributions()), where);
+        assertEquals(0, expected.getTotalInterest().compareTo(actual.getTotalInterest()), where);
+        List<MonthlyData> expectedRows = expected.getMonthlyData();
+        List<MonthlyData> actualRows = actual.getMonthlyData();
+        assertEquals(expectedRows.size(), actualRows.size(), where);
+        for (int m = 0; m < expectedRows.size(); m++) {
+            assertEquals(0, expectedRows.get(m).getEndBalance().compareTo(actualRows.get(m).getEndBalance()), where);
+        }
+        assertEquals(expected.getYearlyData().size(), actual.getYearlyData().size(), where);
+    }
+
+    private interface Task<T> {
+        T run(int index) throws Exception;
+    }
+
+    // Run every index on THREADS threads released together, results in index order
+    private static <T> List<T> runConcurrently(int count, Task<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<T>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                Callable<T> call = () -> {
+                    start.await();
+                    return task.run(index);
+                };
+                futures.add(executor.submit(call));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(2, TimeUnit.MINUTES));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class DecumulationEngineTest {
+
+    private final DecumulationEngine engine = new DecumulationEngine();
+
+    @Test
+    void testStopsAtDepletion() {
+        System.out.println("\n=== Test: Drawdown Stops at Zero ===");
+
+        for (int perYear : new int[] {1, 4, 12, 5}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                DecumulationResult result = engine.calculate(new BigDecimal("500000"), 40, new BigDecimal("4"),
+                    CompoundingFrequency.MONTHLY, new BigDecimal("42000"), perYear, atBeginning);
+                String where = perYear + "/yr, beginning=" + atBeginning;
+
+                assertTrue(result.isDepleted(), where);
+                List<MonthlyData> rows = result.getSchedule().getMonthlyData();
+                assertEquals(result.getDepletionMonth(), rows.size(), where);
+                assertEquals(0, result.getEndBalance().signum(), where);
+                for (MonthlyData row : rows) {
+                    assertTrue(row.getEndBalance().signum() >= 0, where + " " + row.getMonth());
+                    assertTrue(row.getInterestEarned().signum() >= 0, where + " " + row.getMonth());
+                }
+
+                // Same month as the first non-positive balance of the unbounded schedule
+                InvestmentResult unbounded = new FinalInvestmentEngine().calculateInvestment(new BigDecimal("500000"), 40,
+                    new BigDecimal("4"), CompoundingFrequency.MONTHLY, new BigDecimal("-42000"), perYear, atBeginning);
+                int firstNegative = 0;
+                while (unbounded.getMonthlyData().get(firstNegative).getEndBalance().signum() > 0) firstNegative++;
+                assertEquals(firstNegative + 1, result.getDepletionMonth(), where);
+
+                // Withdrawals paid add up to everything that was there
+                BigDecimal available = new BigDecimal("500000").add(result.getSchedule().getTotalInterest());
+                assertTrue(available.subtract(result.getTotalWithdrawn()).abs().compareTo(new BigDecimal("0.000001")) <= 0, where);
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testClosedFormDepletionMonth() {
+        System.out.println("\n=== Test: Depletion Month Without Simulation ===");
+
+        CompoundingFrequency[] frequencies = {CompoundingFrequency.ANNUALLY, CompoundingFrequency.QUARTERLY,
+            CompoundingFrequency.MONTHLY, CompoundingFrequency.DAILY};
+        for (CompoundingFrequency frequency : frequencies) {
+            for (int perYear : new int[] {1, 4, 12, 7}) {
+                for (boolean atBeginning : new boolean[] {true, false}) {
+                    for (String withdrawal : new String[] {"15000", "30000", "60000", "2000000"}) {
+                        DecumulationResult simulated = engine.calculate(new BigDecimal("400000"), 50,
+                            new BigDecimal("5"), frequency, new BigDecimal(withdrawal), perYear, atBeginning);
+                        int solved = engine.depletionMonth(new BigDecimal("400000"), 50, new BigDecimal("5"),
+                            frequency, new BigDecimal(withdrawal), perYear, atBeginning);
+                        assertEquals(simulated.getDepletionMonth(), solved,
+                            frequency + ", " + perYear + "/yr, beginning=" + atBeginning + ", " + withdrawal);
+                    }
+                }
+            }
+        }
+
+        // 15000 a year at 5% never runs out
+        assertEquals(0, engine.depletionMonth(new BigDecimal("400000"), 50, new BigDecimal("5"), CompoundingFrequency.MONTHLY,
+            new BigDecimal("15000"), 12, false));
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testMaxSustainableWithdrawal() {
+        System.out.println("\n=== Test: Maximum Sustainable Withdrawal ===");
+
+        for (int perYear : new int[] {1, 4, 12}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                BigDecimal max = engine.maxSustainableWithdrawal(new BigDecimal("1000000"), 30, new BigDecimal("5.5"),
+                    CompoundingFrequency.MONTHLY, perYear, atBeginning);
+                String where = perYear + "/yr, beginning=" + atBeginning + ", max " + max;
+
+                DecumulationResult atMax = engine.calculate(new BigDecimal("1000000"), 30, new BigDecimal("5.5"),
+                    CompoundingFrequency.MONTHLY, max, perYear, atBeginning);
+                assertTrue(atMax.getDepletionMonth() == 0 || atMax.getDepletionMonth() == 360, where);
+                assertTrue(atMax.getEndBalance().compareTo(new BigDecimal("0.01")) < 0, where);
+
+                DecumulationResult overMax = engine.calculate(new BigDecimal("1000000"), 30, new BigDecimal("5.5"),
+                    CompoundingFrequency.MONTHLY, max.add(BigDecimal.ONE), perYear, atBeginning);
+                assertTrue(overMax.isDepleted(), where);
+                assertTrue(overMax.getDepletionMonth() > 300, where);
+                System.out.println(where);
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRejectsInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> engine.calculate(BigDecimal.ZERO, 10, BigDecimal.ONE,
+            CompoundingFrequency.MONTHLY, BigDecimal.TEN, 12, true));
+        assertThrows(IllegalArgumentException.class, () -> engine.calculate(BigDecimal.TEN, 10, BigDecimal.ONE,
+            CompoundingFrequency.MONTHLY, new BigDecimal("-1"), 12, true));
+        assertThrows(IllegalArgumentException.class, () -> engine.maxSustainableWithdrawal(BigDecimal.TEN, 0,
+            BigDecimal.ONE, CompoundingFrequency.MONTHLY, 12, true));
+    }
+}
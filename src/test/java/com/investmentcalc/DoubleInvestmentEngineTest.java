@@ -0,0 +1,107 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class DoubleInvestmentEngineTest {
+
+    private final FinalInvestmentEngine exact = new FinalInvestmentEngine();
+    private final DoubleInvestmentEngine fast = new DoubleInvestmentEngine();
+
+    @Test
+    void testMatchesExactEngineAcrossContributionPlans() {
+        System.out.println("\n=== Test: Double Engine vs BigDecimal Engine ===");
+
+        String[] frequencies = {"Annually", "Quarterly", "Monthly", "Weekly", "Daily"};
+        int[] contributionsPerYear = {0, 1, 4, 12, 6};
+        String[] contributions = {"12000", "-1500"};
+        double worst = 0.0;
+
+        for (String frequency : frequencies) {
+            for (int perYear : contributionsPerYear) {
+                for (String contribution : contributions) {
+                    for (boolean atBeginning : new boolean[] {true, false}) {
+                        InvestmentResult expected = exact.calculateInvestment(
+                            new BigDecimal("20000"), 30, new BigDecimal("7"), frequency,
+                            new BigDecimal(contribution), perYear, atBeginning);
+                        InvestmentResult actual = fast.calculateInvestment(
+                            new BigDecimal("20000"), 30, new BigDecimal("7"), frequency,
+                            new BigDecimal(contribution), perYear, atBeginning);
+
+                        worst = Math.max(worst, assertWithinTolerance(expected, actual));
+                    }
+                }
+            }
+        }
+
+        System.out.printf("Worst relative difference: %.3e (tolerance %.0e)%n",
+            worst, DoubleInvestmentEngine.RELATIVE_TOLERANCE);
+        System.out.printf("Result:   %s%n", worst <= DoubleInvestmentEngine.RELATIVE_TOLERANCE ? "✅ PASS" : "❌ FAIL");
+    }
+
+    @Test
+    void testSelectablePerCall() {
+        System.out.println("\n=== Test: Engine Mode Selection ===");
+
+        InvestmentResult exactResult = EngineMode.EXACT.engine().calculateInvestment(
+            new BigDecimal("1000"), 2, new BigDecimal("10"), "Annually",
+            new BigDecimal("1000"), 1, true);
+        InvestmentResult fastResult = EngineMode.FAST.engine().calculateInvestment(
+            new BigDecimal("1000"), 2, new BigDecimal("10"), "Annually",
+            new BigDecimal("1000"), 1, true);
+
+        System.out.printf("Exact: $%.2f  Fast: $%.2f%n", exactResult.getEndBalance(), fastResult.getEndBalance());
+
+        assertTrue(EngineMode.EXACT.engine() instanceof FinalInvestmentEngine);
+        assertTrue(EngineMode.FAST.engine() instanceof DoubleInvestmentEngine);
+        assertEquals(3520.0, fastResult.getEndBalance().doubleValue(), 1e-6);
+        assertWithinTolerance(exactResult, fastResult);
+    }
+
+    @Test
+    void testColumnsHaveOneEntryPerMonth() {
+        ScheduleColumns columns = fast.computeSchedule(5000, 3, new BigDecimal("6"), "Quarterly", 1200, 4, false);
+
+        assertEquals(36, columns.getMonthCount());
+        assertEquals(5000.0, columns.getStartBalance()[0]);
+        assertEquals(300.0, columns.getContributions()[3]);
+        assertEquals(0.0, columns.getContributions()[4]);
+        for (int i = 1; i < columns.getMonthCount(); i++) {
+            assertEquals(columns.getEndBalance()[i - 1], columns.getStartBalance()[i]);
+        }
+    }
+
+    private static double assertWithinTolerance(InvestmentResult expected, InvestmentResult actual) {
+        double scale = Math.max(1.0, Math.abs(expected.getEndBalance().doubleValue()));
+        double worst = 0.0;
+
+        List<MonthlyData> expectedMonths = expected.getMonthlyData();
+        List<MonthlyData> actualMonths = actual.getMonthlyData();
+        assertEquals(expectedMonths.size(), actualMonths.size());
+        for (int i = 0; i < expectedMonths.size(); i++) {
+            MonthlyData e = expectedMonths.get(i);
+            MonthlyData a = actualMonths.get(i);
+            assertEquals(e.getMonth(), a.getMonth());
+            worst = Math.max(worst, relative(e.getStartBalance(), a.getStartBalance(), scale));
+            worst = Math.max(worst, relative(e.getContributions(), a.getContributions(), scale));
+            worst = Math.max(worst, relative(e.getInterestEarned(), a.getInterestEarned(), scale));
+            worst = Math.max(worst, relative(e.getEndBalance(), a.getEndBalance(), scale));
+        }
+        assertEquals(expected.getYearlyData().size(), actual.getYearlyData().size());
+
+        worst = Math.max(worst, relative(expected.getEndBalance(), actual.getEndBalance(), scale));
+        worst = Math.max(worst, relative(expected.getTotalContributions(), actual.getTotalContributions(), scale));
+        worst = Math.max(worst, relative(expected.getTotalInterest(), actual.getTotalInterest(), scale));
+
+        assertTrue(worst <= DoubleInvestmentEngine.RELATIVE_TOLERANCE,
+            String.format("Relative difference %.3e exceeds tolerance", worst));
+        return worst;
+    }
+
+    private static double relative(BigDecimal expected, BigDecimal actual, double scale) {
+        return Math.abs(expected.doubleValue() - actual.doubleValue()) / scale;
+    }
+}
@@ -197,4 +197,103 @@ public class FinalInvestmentEngineTest {
         
         assertTrue(passed, String.format("Expected around %s, got %s", expected, actual));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSummaryMatchesFullSchedule() {
+        System.out.println("\n=== Test: Summary Mode vs Full Schedule ===");
+
+        String[] frequencies = {"Annually", "Quarterly", "Monthly", "Weekly", "Daily"};
+        int[] contributionsPerYear = {0, 1, 4, 12, 7};
+        BigDecimal worst = BigDecimal.ZERO;
+
+        for (String frequency : frequencies) {
+            for (int perYear : contributionsPerYear) {
+                for (boolean atBeginning : new boolean[] {true, false}) {
+                    for (String contribution : new String[] {"12000", "-900"}) {
+                        InvestmentResult full = engine.calculateInvestment(
+                            new BigDecimal("20000"), 25, new BigDecimal("7"), frequency,
+                            new BigDecimal(contribution), perYear, atBeginning);
+                        InvestmentResult summary = engine.calculateSummary(
+                            new BigDecimal("20000"), 25, new BigDecimal("7"), frequency,
+                            new BigDecimal(contribution), perYear, atBeginning);
+
+                        worst = worst.max(full.getEndBalance().subtract(summary.getEndBalance()).abs());
+                        worst = worst.max(full.getTotalContributions().subtract(summary.getTotalContributions()).abs());
+                        worst = worst.max(full.getTotalInterest().subtract(summary.getTotalInterest()).abs());
+                        assertTrue(summary.getMonthlyData().isEmpty());
+                        assertTrue(summary.getYearlyData().isEmpty());
+                    }
+                }
+            }
+        }
+
+        boolean passed = worst.compareTo(new BigDecimal("0.000001")) < 0;
+        System.out.printf("Largest difference: $%s%n", worst.stripTrailingZeros().toPlainString());
+        System.out.printf("Result:   %s%n", passed ? "✅ PASS" : "❌ FAIL");
+
+        assertTrue(passed, "Summary totals should match the full schedule");
+    }
+
+    @Test
+    void testSummaryZeroRateAndZeroYears() {
+        InvestmentResult zeroRate = engine.calculateSummary(
+            new BigDecimal("1000"), 3, BigDecimal.ZERO, "Monthly",
+            new BigDecimal("1200"), 4, false);
+        assertEquals(0, new BigDecimal("4600").compareTo(zeroRate.getEndBalance()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(zeroRate.getTotalInterest()));
+
+        InvestmentResult zeroYears = engine.calculateSummary(
+            new BigDecimal("1000"), 0, new BigDecimal("7"), "Monthly",
+            new BigDecimal("1200"), 12, true);
+        assertEquals(0, new BigDecimal("1000").compareTo(zeroYears.getEndBalance()));
+    }
+
+    @Test
+    void testSummaryCostIndependentOfHorizon() {
+        System.out.println("\n=== Test: Summary Mode Long Horizon ===");
+
+        // The closed form agrees with the month-by-month schedule on a moderate horizon
+        InvestmentResult stepped = engine.calculateInvestment(
+            new BigDecimal("1000"), 40, new BigDecimal("6.5"), "Monthly",
+            new BigDecimal("120"), 12, true);
+        InvestmentResult closedForm = engine.calculateSummary(
+            new BigDecimal("1000"), 40, new BigDecimal("6.5"), "Monthly",
+            new BigDecimal("120"), 12, true);
+        assertEquals(stepped.getEndBalance().doubleValue(), closedForm.getEndBalance().doubleValue(), 1e-6);
+        assertEquals(0, stepped.getTotalContributions().compareTo(closedForm.getTotalContributions()));
+        assertEquals(stepped.getTotalInterest().doubleValue(), closedForm.getTotalInterest().doubleValue(), 1e-6);
+
+        // 1.2 million months complete without stepping through them and still add up
+        InvestmentResult result = engine.calculateSummary(
+            new BigDecimal("1000"), 100000, new BigDecimal("0.01"), "Monthly",
+            new BigDecimal("120"), 12, true);
+        System.out.printf("100,000 years summarised, end balance $%,.2f%n", result.getEndBalance());
+
+        assertEquals(0, new BigDecimal("12001000").compareTo(result.getTotalContributions()));
+        assertTrue(result.getEndBalance().compareTo(result.getTotalContributions()) > 0);
+        assertEquals(0, result.getEndBalance().subtract(result.getTotalContributions())
+            .compareTo(result.getTotalInterest()));
+        assertTrue(result.getMonthlyData().isEmpty());
+    }
+
+    @Test
+    void testMonthLabelsFromIndex() {
+        InvestmentResult result = engine.calculateInvestment(
+            new BigDecimal("1000"), 101, new BigDecimal("5"), "Monthly",
+            new BigDecimal("1200"), 12, true);
+
+        for (int i = 0; i < result.getMonthlyData().size(); i++) {
+            MonthlyData row = result.getMonthlyData().get(i);
+            assertEquals(i, row.getMonthIndex());
+            assertEquals(String.format("Year %d, Month %d", i / 12 + 1, i % 12 + 1), row.getMonth());
+        }
+        // Rows inside the shared table reuse the same String across separately computed schedules
+        InvestmentResult other = engine.calculateInvestment(
+            new BigDecimal("250"), 3, new BigDecimal("2"), "Daily",
+            BigDecimal.ZERO, 1, false);
+        assertSame(result.getMonthlyData().get(13).getMonth(), other.getMonthlyData().get(13).getMonth());
+        assertSame(MonthLabels.of(13), result.getMonthlyData().get(13).getMonth());
+        assertEquals(-1, new MonthlyData("2025-01", BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ONE)
+            .getMonthIndex());
+    }
+}
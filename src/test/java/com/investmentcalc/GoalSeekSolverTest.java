@@ -0,0 +1,141 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+public class GoalSeekSolverTest {
+
+    private final GoalSeekSolver solver = new GoalSeekSolver();
+    private final FinalInvestmentEngine engine = new FinalInvestmentEngine();
+
+    @Test
+    void testRequiredContribution() {
+        System.out.println("\n=== Test: Goal Seek Contribution ===");
+
+        BigDecimal target = new BigDecimal("1000000");
+        for (int perYear : new int[] {1, 4, 12, 3}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                GoalSeekResult result = solver.solveContribution(
+                    target, new BigDecimal("10000"), 30, new BigDecimal("7"), "Monthly", perYear, atBeginning);
+
+                assertTrue(result.isSolved());
+                assertTrue(result.isWithinTolerance(), "achieved " + result.getAchievedEndBalance());
+
+                // Independent check against the full month-by-month schedule
+                BigDecimal full = engine.calculateInvestment(new BigDecimal("10000"), 30, new BigDecimal("7"), "Monthly",
+                    result.getValue(), perYear, atBeginning).getEndBalance();
+                assertTrue(full.subtract(target).abs().compareTo(GoalSeekSolver.TOLERANCE) <= 0,
+                    "full schedule gives " + full);
+                System.out.printf("%2d/yr %-9s -> %.2f per year%n", perYear, atBeginning ? "beginning" : "end",
+                    result.getValue());
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRequiredStartingAmount() {
+        GoalSeekResult result = solver.solveStartingAmount(
+            new BigDecimal("250000"), 20, new BigDecimal("5.5"), "Quarterly", new BigDecimal("3000"), 4, false);
+
+        assertTrue(result.isWithinTolerance(), "achieved " + result.getAchievedEndBalance());
+
+        // Target below what the contributions alone reach needs a negative starting amount
+        GoalSeekResult negative = solver.solveStartingAmount(
+            new BigDecimal("1000"), 20, new BigDecimal("5.5"), "Quarterly", new BigDecimal("3000"), 4, false);
+        assertTrue(negative.getValue().signum() < 0);
+        assertTrue(negative.isWithinTolerance());
+    }
+
+    @Test
+    void testRequiredRate() {
+        System.out.println("\n=== Test: Goal Seek Rate ===");
+
+        String[] frequencies = {"Annually", "Quarterly", "Monthly", "Weekly", "Daily"};
+        BigDecimal[] targets = {new BigDecimal("50000"), new BigDecimal("500000"), new BigDecimal("5000000"),
+                                new BigDecimal("20000")};
+        for (String frequency : frequencies) {
+            for (BigDecimal target : targets) {
+                GoalSeekResult result = solver.solveRate(
+                    target, new BigDecimal("25000"), 25, frequency, new BigDecimal("1200"), 12, true);
+
+                assertTrue(result.isSolved(), frequency + " " + target);
+                assertTrue(result.isWithinTolerance(),
+                    frequency + " " + target + " achieved " + result.getAchievedEndBalance());
+                assertTrue(result.getIterations() < 60, "iterations " + result.getIterations());
+            }
+        }
+
+        // 20,000 is below the 55,000 paid in, so the rate must be negative
+        GoalSeekResult loss = solver.solveRate(
+            new BigDecimal("20000"), new BigDecimal("25000"), 25, "Monthly", new BigDecimal("1200"), 12, true);
+        assertTrue(loss.getValue().signum() < 0);
+
+        // Growing $1 to 1e15 in one year with no contributions needs a rate far above MAX_RATE
+        GoalSeekResult unreachable = solver.solveRate(
+            new BigDecimal("1000000000000000"), new BigDecimal("1"), 1, "Monthly", BigDecimal.ZERO, 12, true);
+        assertFalse(unreachable.isSolved());
+        assertNull(unreachable.getValue());
+
+        // A root exists inside the bracket, but at 1e20 one ulp of the rate moves the balance
+        // by far more than TOLERANCE, so the search stops short and must not report success
+        GoalSeekResult unresolvable = solver.solveRate(
+            new BigDecimal("100000000000000000000"), new BigDecimal("1000"), 30, "Monthly", BigDecimal.ZERO, 12, true);
+        assertFalse(unresolvable.isSolved());
+        assertNull(unresolvable.getValue());
+        assertFalse(unresolvable.isWithinTolerance());
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRequiredYears() {
+        GoalSeekResult result = solver.solveYears(
+            new BigDecimal("1000000"), new BigDecimal("10000"), new BigDecimal("7"), "Monthly",
+            new BigDecimal("12000"), 12, false);
+
+        assertTrue(result.isSolved());
+        assertTrue(result.isTargetReached());
+        int years = result.getValue().intValueExact();
+
+        BigDecimal previous = engine.calculateSummary(new BigDecimal("10000"), years - 1, new BigDecimal("7"),
+            "Monthly", new BigDecimal("12000"), 12, false).getEndBalance();
+        assertTrue(previous.compareTo(new BigDecimal("1000000")) < 0, "one year shorter already reaches the target");
+        System.out.println("Years needed: " + years);
+
+        GoalSeekResult already = solver.solveYears(
+            new BigDecimal("500"), new BigDecimal("1000"), new BigDecimal("7"), "Monthly", BigDecimal.ZERO, 12, false);
+        assertEquals(0, already.getValue().intValueExact());
+
+        GoalSeekResult never = solver.solveYears(
+            new BigDecimal("1000000"), new BigDecimal("1000"), BigDecimal.ZERO, "Monthly", BigDecimal.ZERO, 12, false);
+        assertFalse(never.isSolved());
+    }
+
+    @Test
+    void testSolveTime() {
+        System.out.println("\n=== Test: Goal Seek Solve Time ===");
+
+        int runs = 2000;
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            solver.solveRate(BigDecimal.valueOf(400000 + i), new BigDecimal("10000"), 30, "Monthly",
+                new BigDecimal("6000"), 12, false);
+        }
+        double rateMicros = (System.nanoTime() - startNanos) / 1000.0 / runs;
+
+        startNanos = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            solver.solveContribution(BigDecimal.valueOf(400000 + i), new BigDecimal("10000"), 30,
+                new BigDecimal("7"), "Monthly", 12, false);
+        }
+        double contributionMicros = (System.nanoTime() - startNanos) / 1000.0 / runs;
+
+        System.out.printf("Rate: %.1f us per solve, contribution: %.1f us per solve (including verification)%n",
+            rateMicros, contributionMicros);
+        System.out.println("Result:   ✅ PASS");
+    }
+}
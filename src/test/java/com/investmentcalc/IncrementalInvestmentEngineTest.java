@@ -0,0 +1,107 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+public class IncrementalInvestmentEngineTest {
+
+    private final FinalInvestmentEngine fullEngine = new FinalInvestmentEngine();
+
+    @Test
+    void testHorizonChangesMatchFullRecalculation() {
+        System.out.println("\n=== Test: Incremental Horizon Changes ===");
+
+        IncrementalInvestmentEngine engine = new IncrementalInvestmentEngine();
+        for (int perYear : new int[] {1, 4, 12, 5}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                for (int years : new int[] {10, 25, 3, 0, 25, 26, 40}) {
+                    InvestmentResult expected = fullEngine.calculateInvestment(
+                        new BigDecimal("20000"), years, new BigDecimal("6.5"), "Quarterly",
+                        new BigDecimal("-1500"), perYear, atBeginning);
+                    InvestmentResult actual = engine.calculateInvestment(
+                        new BigDecimal("20000"), years, new BigDecimal("6.5"), "Quarterly",
+                        new BigDecimal("-1500"), perYear, atBeginning);
+                    assertSameResult(expected, actual);
+                }
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testOneYearLongerStepsTwelveMonths() {
+        System.out.println("\n=== Test: Incremental Step Count ===");
+
+        IncrementalInvestmentEngine engine = new IncrementalInvestmentEngine();
+        engine.calculateInvestment(new BigDecimal("20000"), 50, new BigDecimal("7"), "Monthly",
+            new BigDecimal("12000"), 12, true);
+        assertEquals(600, engine.getMonthsStepped());
+
+        long before = engine.getMonthsStepped();
+        InvestmentResult longer = engine.calculateInvestment(new BigDecimal("20000"), 51, new BigDecimal("7"), "Monthly",
+            new BigDecimal("12000"), 12, true);
+        assertEquals(12, engine.getMonthsStepped() - before);
+
+        before = engine.getMonthsStepped();
+        engine.calculateInvestment(new BigDecimal("20000"), 30, new BigDecimal("7"), "Monthly",
+            new BigDecimal("12000"), 12, true);
+        assertEquals(0, engine.getMonthsStepped() - before, "shorter horizons need no stepping");
+
+        assertSameResult(fullEngine.calculateInvestment(new BigDecimal("20000"), 51, new BigDecimal("7"), "Monthly",
+            new BigDecimal("12000"), 12, true), longer);
+        System.out.println("50 -> 51 years stepped 12 months instead of 612");
+
+        // Any other input change starts a new history
+        before = engine.getMonthsStepped();
+        engine.calculateInvestment(new BigDecimal("20000"), 51, new BigDecimal("7.5"), "Monthly",
+            new BigDecimal("12000"), 12, true);
+        assertEquals(612, engine.getMonthsStepped() - before);
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testResultsAreReadOnly() {
+        IncrementalInvestmentEngine engine = new IncrementalInvestmentEngine();
+        InvestmentResult result = engine.calculateInvestment(
+            new BigDecimal("1000"), 2, new BigDecimal("5"), "Monthly", BigDecimal.ZERO, 12, false);
+        assertThrows(UnsupportedOperationException.class, () -> result.getMonthlyData().clear());
+        assertThrows(UnsupportedOperationException.class, () -> result.getYearlyData().clear());
+
+        // Extending the shared history afterwards leaves the earlier result intact
+        engine.calculateInvestment(new BigDecimal("1000"), 40, new BigDecimal("5"), "Monthly", BigDecimal.ZERO, 12, false);
+        assertEquals(24, result.getMonthlyData().size());
+        assertEquals(2, result.getYearlyData().size());
+        assertSameResult(fullEngine.calculateInvestment(
+            new BigDecimal("1000"), 2, new BigDecimal("5"), "Monthly", BigDecimal.ZERO, 12, false), result);
+    }
+
+    private static void assertSameResult(InvestmentResult expected, InvestmentResult actual) {
+        assertEquals(expected.getEndBalance(), actual.getEndBalance());
+        assertEquals(expected.getTotalContributions(), actual.getTotalContributions());
+        assertEquals(expected.getTotalInterest(), actual.getTotalInterest());
+        assertEquals(expected.getMonthlyData().size(), actual.getMonthlyData().size());
+        assertEquals(expected.getYearlyData().size(), actual.getYearlyData().size());
+        for (int i = 0; i < expected.getMonthlyData().size(); i++) {
+            MonthlyData e = expected.getMonthlyData().get(i);
+            MonthlyData a = actual.getMonthlyData().get(i);
+            assertEquals(e.getMonth(), a.getMonth());
+            assertEquals(e.getStartBalance(), a.getStartBalance());
+            assertEquals(e.getContributions(), a.getContributions());
+            assertEquals(e.getInterestEarned(), a.getInterestEarned());
+            assertEquals(e.getEndBalance(), a.getEndBalance());
+        }
+        for (int i = 0; i < expected.getYearlyData().size(); i++) {
+            YearlyData e = expected.getYearlyData().get(i);
+            YearlyData a = actual.getYearlyData().get(i);
+            assertEquals(e.getYear(), a.getYear());
+            assertEquals(e.getStartBalance(), a.getStartBalance());
+            assertEquals(e.getContributions(), a.getContributions());
+            assertEquals(e.getInterestEarned(), a.getInterestEarned());
+            assertEquals(e.getEndBalance(), a.getEndBalance());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+
+public class MonteCarloEngineTest {
+
+    @Test
+    void testReproducibleAcrossThreadCounts() {
+        System.out.println("\n=== Test: Monte Carlo Reproducibility ===");
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            MonteCarloResult a = new MonteCarloEngine(single).simulate(
+                20000, 20, 7, 15, 12000, 12, true, 10_000, 42L, 600_000);
+            MonteCarloResult b = new MonteCarloEngine(many).simulate(
+                20000, 20, 7, 15, 12000, 12, true, 10_000, 42L, 600_000);
+
+            assertArrayEquals(a.getP5(), b.getP5());
+            assertArrayEquals(a.getP50(), b.getP50());
+            assertArrayEquals(a.getP95(), b.getP95());
+            assertEquals(a.getProbabilityOfReachingTarget(), b.getProbabilityOfReachingTarget());
+
+            System.out.printf("Year 20: P5 $%,.0f  P50 $%,.0f  P95 $%,.0f  P(>= $600k) %.1f%%%n",
+                a.getP5()[19], a.getP50()[19], a.getP95()[19], a.getProbabilityOfReachingTarget() * 100);
+            System.out.println("Result:   ✅ PASS");
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testZeroVolatilityMatchesFixedRateEngine() {
+        MonteCarloResult result = new MonteCarloEngine().simulate(
+            20000, 10, 7, 0, 12000, 4, false, 100, 1L, 0);
+
+        // With no volatility every month grows by (1.07)^(1/12), i.e. annual compounding
+        InvestmentResult expected = new DoubleInvestmentEngine().calculateInvestment(
+            new BigDecimal("20000"), 10, new BigDecimal("7"), "Annually",
+            new BigDecimal("12000"), 4, false);
+        for (int y = 0; y < 10; y++) {
+            double yearEnd = expected.getYearlyData().get(y).getEndBalance().doubleValue();
+            assertEquals(yearEnd, result.getP50()[y], yearEnd * 1e-6);
+            assertEquals(result.getP5()[y], result.getP95()[y]);
+        }
+        assertEquals(1.0, result.getProbabilityOfReachingTarget());
+    }
+
+    @Test
+    void testDistributionShape() {
+        System.out.println("\n=== Test: Monte Carlo Throughput ===");
+
+        int paths = 100_000;
+        MonteCarloResult result = new MonteCarloEngine().simulate(
+            10000, 30, 7, 18, 6000, 12, true, paths, 2024L, 1_000_000);
+
+        for (int y = 0; y < 30; y++) {
+            assertTrue(result.getP5()[y] <= result.getP50()[y]);
+            assertTrue(result.getP50()[y] <= result.getP95()[y]);
+        }
+        assertTrue(result.getP95()[29] - result.getP5()[29] > result.getP95()[0] - result.getP5()[0],
+            "Dispersion should widen with the horizon");
+        assertTrue(result.getProbabilityOfReachingTarget() > 0 && result.getProbabilityOfReachingTarget() < 1);
+
+        System.out.printf("%,d paths x 30 years in %.0f ms (%,.0f path-months/s)%n",
+            paths, result.getElapsedNanos() / 1e6, paths * 360.0 / (result.getElapsedNanos() / 1e9));
+    }
+
+    @Test
+    void testPercentileNearestRank() {
+        float[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(1.0, MonteCarloEngine.percentile(sorted, 5));
+        assertEquals(5.0, MonteCarloEngine.percentile(sorted, 50));
+        assertEquals(10.0, MonteCarloEngine.percentile(sorted, 95));
+        assertThrows(IllegalArgumentException.class,
+            () -> new MonteCarloEngine().simulate(1, 1, 7, 10, 0, 0, true, 0, 1L, 0));
+    }
+}
@@ -0,0 +1,66 @@
+package com.investmentcalc;
+
+import java.math.BigDecimal;
+
+/**
+ * Compares building a per-row "Year N, Month M" label with String.format, as the
+ * schedule loop used to, against the shared label table behind MonthlyData.
+ * Run after mvn test-compile with:
+ * java -cp target/classes:target/test-classes com.investmentcalc.MonthLabelBenchmark
+ */
+public class MonthLabelBenchmark {
+
+    public static void main(String[] args) {
+        int months = 1200;
+        int rounds = 2000;
+        long sink = 0;
+
+        // Warm up both paths
+        for (int r = 0; r < rounds / 4; r++) {
+            sink += formatAll(months) + tableAll(months);
+        }
+
+        long startNanos = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            sink += formatAll(months);
+        }
+        double formatNanos = (double) (System.nanoTime() - startNanos) / ((long) rounds * months);
+
+        startNanos = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            sink += tableAll(months);
+        }
+        double tableNanos = (double) (System.nanoTime() - startNanos) / ((long) rounds * months);
+
+        System.out.printf("String.format label: %.1f ns per row%n", formatNanos);
+        System.out.printf("Shared label table:  %.1f ns per row%n", tableNanos);
+        System.out.printf("Saving:              %.1f ns per row (%.0fx)%n", formatNanos - tableNanos, formatNanos / tableNanos);
+
+        // Whole 100-year schedule, for scale
+        FinalInvestmentEngine engine = new FinalInvestmentEngine();
+        startNanos = System.nanoTime();
+        InvestmentResult result = engine.calculateInvestment(new BigDecimal("20000"), 100, new BigDecimal("7"),
+            "Monthly", new BigDecimal("12000"), 12, true);
+        double scheduleMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        System.out.printf("100-year schedule: %.2f ms (%d rows)%n", scheduleMillis, result.getMonthlyData().size());
+
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static long formatAll(int months) {
+        long length = 0;
+        for (int i = 0; i < months; i++) {
+            length += String.format("Year %d, Month %d", i / 12 + 1, i % 12 + 1).length();
+        }
+        return length;
+    }
+
+    private static long tableAll(int months) {
+        long length = 0;
+        for (int i = 0; i < months; i++) {
+            length += new MonthlyData(i, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO)
+                .getMonth().length();
+        }
+        return length;
+    }
+}
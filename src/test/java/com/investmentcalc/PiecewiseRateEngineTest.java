@@ -0,0 +1,135 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class PiecewiseRateEngineTest {
+
+    private static final BigDecimal TOLERANCE = new BigDecimal("0.000001");
+
+    private final PiecewiseRateEngine engine = new PiecewiseRateEngine();
+
+    @Test
+    void testSingleSegmentMatchesFinalEngine() {
+        System.out.println("\n=== Test: One Segment vs FinalInvestmentEngine ===");
+
+        for (int perYear : new int[] {1, 4, 12, 7}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                InvestmentResult expected = new FinalInvestmentEngine().calculateInvestment(new BigDecimal("10000"), 15,
+                    new BigDecimal("6.5"), "Quarterly", new BigDecimal("3000"), perYear, atBeginning);
+                InvestmentResult actual = engine.calculateInvestment(new BigDecimal("10000"), 15,
+                    RateSchedule.constant(new BigDecimal("6.5"), CompoundingFrequency.QUARTERLY),
+                    new BigDecimal("3000"), perYear, atBeginning);
+
+                assertEquals(0, expected.getEndBalance().compareTo(actual.getEndBalance()));
+                assertEquals(0, expected.getTotalInterest().compareTo(actual.getTotalInterest()));
+                assertEquals(expected.getMonthlyData().size(), actual.getMonthlyData().size());
+                assertEquals(expected.getYearlyData().size(), actual.getYearlyData().size());
+                assertEquals(0, expected.getYearlyData().get(7).getEndBalance()
+                    .compareTo(actual.getYearlyData().get(7).getEndBalance()));
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testGlidePath() {
+        System.out.println("\n=== Test: 8% for 20 Years then 5% ===");
+
+        RateSchedule glide = new RateSchedule(
+            new RateSegment(0, new BigDecimal("8"), CompoundingFrequency.MONTHLY),
+            new RateSegment(240, new BigDecimal("5"), CompoundingFrequency.ANNUALLY));
+
+        // No contributions: the balance is a product of the two segments' growth
+        InvestmentResult lumpSum = engine.calculateInvestment(new BigDecimal("10000"), 30, glide,
+            BigDecimal.ZERO, 12, true);
+        double expected = 10000 * Math.pow(1 + 0.08 / 12, 240) * Math.pow(1.05, 10);
+        assertEquals(expected, lumpSum.getEndBalance().doubleValue(), 1e-6);
+        assertNull(lumpSum.getAnnualReturnRate());
+
+        // Segment 1 rows follow the 8% schedule exactly
+        InvestmentResult eightOnly = new FinalInvestmentEngine().calculateInvestment(new BigDecimal("10000"), 20,
+            new BigDecimal("8"), "Monthly", new BigDecimal("6000"), 4, false);
+        InvestmentResult withGlide = engine.calculateInvestment(new BigDecimal("10000"), 30, glide,
+            new BigDecimal("6000"), 4, false);
+        assertEquals(0, eightOnly.getEndBalance().compareTo(withGlide.getYearlyData().get(19).getEndBalance()));
+        assertEquals(360, withGlide.getMonthlyData().size());
+
+        System.out.println("End balance: " + withGlide.getEndBalance());
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testSummaryMatchesSchedule() {
+        System.out.println("\n=== Test: Segment Closed Form vs Schedule ===");
+
+        RateSchedule rates = new RateSchedule(
+            new RateSegment(0, new BigDecimal("9"), CompoundingFrequency.DAILY),
+            new RateSegment(17, new BigDecimal("-3"), CompoundingFrequency.MONTHLY),
+            new RateSegment(100, new BigDecimal("4.25"), CompoundingFrequency.WEEKLY),
+            new RateSegment(301, new BigDecimal("6"), CompoundingFrequency.QUARTERLY),
+            new RateSegment(5000, new BigDecimal("12"), CompoundingFrequency.MONTHLY)); // past the horizon
+
+        for (int perYear : new int[] {1, 4, 12, 0}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                InvestmentResult full = engine.calculateInvestment(new BigDecimal("25000"), 40, rates,
+                    new BigDecimal("5000"), perYear, atBeginning);
+                InvestmentResult summary = engine.calculateSummary(new BigDecimal("25000"), 40, rates,
+                    new BigDecimal("5000"), perYear, atBeginning);
+                String where = perYear + "/yr, beginning=" + atBeginning;
+                assertClose(full.getEndBalance(), summary.getEndBalance(), where);
+                assertClose(full.getTotalContributions(), summary.getTotalContributions(), where);
+                assertClose(full.getTotalInterest(), summary.getTotalInterest(), where);
+                assertTrue(summary.getMonthlyData().isEmpty());
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testSummaryCostFollowsSegments() {
+        System.out.println("\n=== Test: Summary Cost vs Horizon ===");
+
+        List<RateSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            segments.add(new RateSegment(i * 60, BigDecimal.valueOf(3 + i), CompoundingFrequency.MONTHLY));
+        }
+        RateSchedule rates = new RateSchedule(segments);
+
+        for (int years : new int[] {100, 1000}) {
+            long start = System.nanoTime();
+            InvestmentResult summary = null;
+            for (int i = 0; i < 200; i++) {
+                summary = engine.calculateSummary(new BigDecimal("1000"), years, rates, new BigDecimal("1200"), 12, true);
+            }
+            long micros = (System.nanoTime() - start) / 1000 / 200;
+            System.out.println(years + " years: " + micros + " us per summary");
+            assertTrue(summary.getEndBalance().signum() > 0);
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRejectsInvalidSchedules() {
+        BigDecimal rate = BigDecimal.ONE;
+        assertThrows(IllegalArgumentException.class, () -> new RateSchedule(new ArrayList<>()));
+        assertThrows(IllegalArgumentException.class,
+            () -> new RateSchedule(new RateSegment(12, rate, CompoundingFrequency.MONTHLY)));
+        assertThrows(IllegalArgumentException.class, () -> new RateSchedule(
+            new RateSegment(0, rate, CompoundingFrequency.MONTHLY),
+            new RateSegment(0, rate, CompoundingFrequency.MONTHLY)));
+        assertThrows(IllegalArgumentException.class, () -> new RateSegment(-1, rate, CompoundingFrequency.MONTHLY));
+    }
+
+    private static void assertClose(BigDecimal expected, BigDecimal actual, String where) {
+        assertTrue(expected.subtract(actual).abs().compareTo(TOLERANCE) <= 0,
+            where + ": expected " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,112 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+public class PortfolioEngineTest {
+
+    private final FinalInvestmentEngine engine = new FinalInvestmentEngine();
+    private final PortfolioEngine portfolioEngine = new PortfolioEngine();
+
+    @Test
+    void testAggregateIsSumOfAccounts() {
+        System.out.println("\n=== Test: Portfolio Aggregation ===");
+
+        String[] frequencies = {"Annually", "Quarterly", "Monthly", "Weekly", "Daily"};
+        int[] plans = {1, 4, 12, 0, 5};
+        List<Scenario> accounts = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            accounts.add(new Scenario(BigDecimal.valueOf(5000 + 1000L * i), 25, BigDecimal.valueOf(2 + 0.25 * i),
+                frequencies[i % frequencies.length], BigDecimal.valueOf(i % 7 == 0 ? -500 : 100L * i),
+                plans[i % plans.length], i % 2 == 0));
+        }
+
+        long startNanos = System.nanoTime();
+        PortfolioResult portfolio = portfolioEngine.calculate(accounts);
+        double elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+        System.out.printf("%d accounts x %d months merged in %.2f ms%n",
+            portfolio.getAccountCount(), portfolio.getAggregate().getMonthlyRowCount(), elapsedMillis);
+
+        double[] yearlyEnd = new double[25];
+        double endBalance = 0;
+        double totalContributions = 0;
+        for (Scenario account : accounts) {
+            InvestmentResult exact = account.calculate(engine);
+            endBalance += exact.getEndBalance().doubleValue();
+            totalContributions += exact.getTotalContributions().doubleValue();
+            for (YearlyData year : exact.getYearlyData()) {
+                yearlyEnd[year.getYear() - 1] += year.getEndBalance().doubleValue();
+            }
+        }
+
+        CompactInvestmentResult aggregate = portfolio.getAggregate();
+        double tolerance = Math.abs(endBalance) * DoubleInvestmentEngine.RELATIVE_TOLERANCE;
+        assertEquals(endBalance, aggregate.getEndBalance().doubleValue(), tolerance);
+        assertEquals(totalContributions, aggregate.getTotalContributions().doubleValue(), tolerance);
+        for (int y = 0; y < 25; y++) {
+            assertEquals(yearlyEnd[y], aggregate.getYearlyData().get(y).getEndBalance().doubleValue(), tolerance);
+        }
+        assertNull(aggregate.getAnnualReturnRate());
+
+        // Per-account breakdown, in input order
+        assertEquals(accounts.size(), portfolio.getAccountResults().size());
+        InvestmentResult third = portfolio.getAccountResults().get(2);
+        assertEquals(accounts.get(2).calculate(engine).getEndBalance().doubleValue(),
+            third.getEndBalance().doubleValue(), tolerance);
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testAccountsRunOnSeparateWorkers() {
+        System.out.println("\n=== Test: Portfolio Accounts in Parallel ===");
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Set<Thread> workers = ConcurrentHashMap.newKeySet();
+            DoubleInvestmentEngine fast = new DoubleInvestmentEngine();
+            InvestmentEngine recording = (start, years, rate, frequency, contribution, perYear, atBeginning) -> {
+                workers.add(Thread.currentThread());
+                try {
+                    Thread.sleep(20); // stand-in for a long Daily schedule
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return fast.calculateInvestment(start, years, rate, frequency, contribution, perYear, atBeginning);
+            };
+
+            // A household of 6 accounts, well under any sequential batch leaf
+            List<Scenario> accounts = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                accounts.add(new Scenario(BigDecimal.valueOf(10000), 30, BigDecimal.valueOf(3 + i),
+                    "Daily", BigDecimal.valueOf(1200), 12, true));
+            }
+            PortfolioResult portfolio = new PortfolioEngine(recording, pool).calculate(accounts);
+
+            assertEquals(6, portfolio.getAccountCount());
+            assertTrue(workers.size() > 1, "accounts ran on " + workers.size() + " thread(s)");
+            System.out.println("6 accounts ran on " + workers.size() + " worker threads");
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testRejectsMismatchedHorizons() {
+        List<Scenario> accounts = Arrays.asList(
+            new Scenario(new BigDecimal("1000"), 10, new BigDecimal("5"), "Monthly", BigDecimal.ZERO, 12, false),
+            new Scenario(new BigDecimal("1000"), 11, new BigDecimal("5"), "Monthly", BigDecimal.ZERO, 12, false));
+        assertThrows(IllegalArgumentException.class, () -> portfolioEngine.calculate(accounts));
+        assertThrows(IllegalArgumentException.class, () -> portfolioEngine.calculate(new ArrayList<>()));
+    }
+}
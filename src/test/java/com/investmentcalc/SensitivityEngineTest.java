@@ -0,0 +1,93 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+public class SensitivityEngineTest {
+
+    private final SensitivityEngine engine = new SensitivityEngine();
+    private final FinalInvestmentEngine reference = new FinalInvestmentEngine();
+
+    @Test
+    void testMatchesFiniteDifferences() {
+        System.out.println("\n=== Test: Dual-Number Sensitivities vs Bumped Runs ===");
+
+        for (CompoundingFrequency frequency : new CompoundingFrequency[] {
+                CompoundingFrequency.ANNUALLY, CompoundingFrequency.MONTHLY, CompoundingFrequency.DAILY}) {
+            for (int perYear : new int[] {1, 4, 12, 7}) {
+                for (boolean atBeginning : new boolean[] {true, false}) {
+                    BigDecimal start = new BigDecimal("25000");
+                    BigDecimal rate = new BigDecimal("6.5");
+                    BigDecimal contribution = new BigDecimal("9000");
+                    int years = 25;
+                    String where = frequency + ", " + perYear + "/yr, beginning=" + atBeginning;
+
+                    SensitivityResult result = engine.calculate(start, years, rate, frequency, contribution,
+                        perYear, atBeginning);
+
+                    double base = balance(start, years, rate, frequency, contribution, perYear, atBeginning);
+                    assertEquals(base, result.getEndBalance(), base * 1e-9, where);
+
+                    BigDecimal h = new BigDecimal("0.0001");
+                    double dRate = (balance(start, years, rate.add(h), frequency, contribution, perYear, atBeginning)
+                        - balance(start, years, rate.subtract(h), frequency, contribution, perYear, atBeginning)) / 0.0002;
+                    assertEquals(dRate, result.getRateSensitivity(), Math.abs(dRate) * 1e-6, where + " rate");
+
+                    BigDecimal one = BigDecimal.ONE;
+                    double dContribution = (balance(start, years, rate, frequency, contribution.add(one), perYear, atBeginning)
+                        - balance(start, years, rate, frequency, contribution.subtract(one), perYear, atBeginning)) / 2;
+                    assertEquals(dContribution, result.getContributionSensitivity(), Math.abs(dContribution) * 1e-6,
+                        where + " contribution");
+
+                    double dStart = (balance(start.add(one), years, rate, frequency, contribution, perYear, atBeginning)
+                        - balance(start.subtract(one), years, rate, frequency, contribution, perYear, atBeginning)) / 2;
+                    assertEquals(dStart, result.getStartingAmountSensitivity(), Math.abs(dStart) * 1e-6,
+                        where + " starting amount");
+
+                    double lastYear = base - balance(start, years - 1, rate, frequency, contribution, perYear, atBeginning);
+                    assertEquals(lastYear, result.getYearsSensitivity(), Math.abs(lastYear) * 1e-9, where + " years");
+                }
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testOnePassCost() {
+        System.out.println("\n=== Test: Sensitivity Pass vs Plain Run ===");
+
+        DoubleInvestmentEngine plain = new DoubleInvestmentEngine();
+        BigDecimal rate = new BigDecimal("7");
+        int runs = 20_000;
+        double sink = 0;
+        for (int warm = 0; warm < 2; warm++) {
+            long plainStart = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                sink += plain.computeSchedule(10000, 40, rate, "Monthly", 6000, 12, true).getEndBalance()[479];
+            }
+            long plainNanos = System.nanoTime() - plainStart;
+
+            long dualStart = System.nanoTime();
+            for (int i = 0; i < runs; i++) {
+                sink += engine.calculate(BigDecimal.TEN, 40, rate, CompoundingFrequency.MONTHLY, BigDecimal.ONE, 12, true).getRateSensitivity();
+            }
+            long dualNanos = System.nanoTime() - dualStart;
+            if (warm == 1) {
+                System.out.printf("Plain run: %.2f us, all sensitivities: %.2f us%n",
+                    plainNanos / 1000.0 / runs, dualNanos / 1000.0 / runs);
+            }
+        }
+        assertTrue(sink > 0);
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    private double balance(BigDecimal start, int years, BigDecimal rate, CompoundingFrequency frequency,
+                           BigDecimal contribution, int perYear, boolean atBeginning) {
+        return reference.calculateSummary(start, years, rate, frequency.getLabel(), contribution, perYear, atBeginning)
+            .getEndBalance().doubleValue();
+    }
+}
@@ -0,0 +1,114 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+public class StreamingScheduleTest {
+
+    private final FinalInvestmentEngine engine = new FinalInvestmentEngine();
+
+    @Test
+    void testStreamedRowsMatchMaterializedSchedule() {
+        System.out.println("\n=== Test: Streamed Schedule vs Materialized Schedule ===");
+
+        for (int perYear : new int[] {1, 4, 12, 5}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                InvestmentResult full = engine.calculateInvestment(
+                    new BigDecimal("20000"), 12, new BigDecimal("7"), "Monthly",
+                    new BigDecimal("12000"), perYear, atBeginning);
+                InvestmentResult lazy = engine.calculateStreaming(
+                    new BigDecimal("20000"), 12, new BigDecimal("7"), "Monthly",
+                    new BigDecimal("12000"), perYear, atBeginning);
+
+                List<MonthlyData> expectedMonths = full.getMonthlyData();
+                List<MonthlyData> streamedMonths = lazy.monthlyStream().collect(Collectors.toList());
+                assertEquals(expectedMonths.size(), streamedMonths.size());
+                for (int i = 0; i < expectedMonths.size(); i++) {
+                    assertEquals(expectedMonths.get(i).getMonth(), streamedMonths.get(i).getMonth());
+                    assertEquals(expectedMonths.get(i).getEndBalance(), streamedMonths.get(i).getEndBalance());
+                    assertEquals(expectedMonths.get(i).getInterestEarned(), streamedMonths.get(i).getInterestEarned());
+                }
+
+                List<YearlyData> expectedYears = full.getYearlyData();
+                List<YearlyData> streamedYears = lazy.yearlyStream().collect(Collectors.toList());
+                assertEquals(expectedYears.size(), streamedYears.size());
+                for (int i = 0; i < expectedYears.size(); i++) {
+                    assertEquals(expectedYears.get(i).getYear(), streamedYears.get(i).getYear());
+                    assertEquals(0, expectedYears.get(i).getStartBalance().compareTo(streamedYears.get(i).getStartBalance()));
+                    assertEquals(0, expectedYears.get(i).getContributions().compareTo(streamedYears.get(i).getContributions()));
+                    assertEquals(0, expectedYears.get(i).getInterestEarned().compareTo(streamedYears.get(i).getInterestEarned()));
+                    assertEquals(0, expectedYears.get(i).getEndBalance().compareTo(streamedYears.get(i).getEndBalance()));
+                }
+
+                BigDecimal difference = full.getEndBalance().subtract(lazy.getEndBalance()).abs();
+                assertTrue(difference.compareTo(new BigDecimal("0.000001")) < 0);
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testCsvExportFromLazyResult() throws Exception {
+        InvestmentResult full = engine.calculateInvestment(
+            new BigDecimal("1000"), 5, new BigDecimal("5"), "Quarterly",
+            new BigDecimal("1200"), 4, false);
+        InvestmentResult lazy = engine.calculateStreaming(
+            new BigDecimal("1000"), 5, new BigDecimal("5"), "Quarterly",
+            new BigDecimal("1200"), 4, false);
+
+        for (boolean monthly : new boolean[] {true, false}) {
+            StringWriter expected = new StringWriter();
+            StringWriter actual = new StringWriter();
+            CsvExporter.writeScheduleCsv(full, monthly, expected);
+            CsvExporter.writeScheduleCsv(lazy, monthly, actual);
+            assertEquals(expected.toString(), actual.toString());
+        }
+    }
+
+    @Test
+    void testLazyResultHoldsNoRows() {
+        InvestmentResult lazy = engine.calculateStreaming(
+            new BigDecimal("1000"), 100, new BigDecimal("7"), "Daily",
+            new BigDecimal("1200"), 12, true);
+
+        assertEquals(1200, lazy.getMonthlyRowCount());
+        assertEquals(100, lazy.getYearlyRowCount());
+
+        Spliterator<MonthlyData> spliterator = lazy.monthlyStream().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(1200, spliterator.getExactSizeIfKnown());
+        assertNull(spliterator.trySplit(), "Schedules are produced in a single sequential pass");
+
+        // Each traversal is an independent single pass
+        assertEquals(1200, lazy.monthlyStream().count());
+        assertEquals(100, lazy.yearlyStream().count());
+        // The closed-form end balance agrees with the last stepped row well below a cent
+        MonthlyData last = lazy.monthlyStream().reduce((a, b) -> b).get();
+        assertTrue(last.getEndBalance().subtract(lazy.getEndBalance()).abs().compareTo(new BigDecimal("0.000001")) < 0,
+            last.getEndBalance() + " vs " + lazy.getEndBalance());
+    }
+
+    @Test
+    void testMaterializedListIsKept() {
+        InvestmentResult lazy = engine.calculateStreaming(
+            new BigDecimal("1000"), 30, new BigDecimal("6"), "Monthly",
+            new BigDecimal("1200"), 12, false);
+
+        List<MonthlyData> months = lazy.getMonthlyData();
+        List<YearlyData> years = lazy.getYearlyData();
+        assertEquals(360, months.size());
+        assertEquals(30, years.size());
+        // Repeated getter calls (e.g. get(i) in a loop) reuse the list instead of re-simulating
+        assertSame(months, lazy.getMonthlyData());
+        assertSame(years, lazy.getYearlyData());
+        assertSame(months.get(359), lazy.monthlyStream().reduce((a, b) -> b).get());
+        assertThrows(UnsupportedOperationException.class, () -> months.remove(0));
+    }
+}
@@ -0,0 +1,67 @@
+package com.investmentcalc;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+public class SweepGridEngineTest {
+
+    private final SweepGridEngine sweepEngine = new SweepGridEngine();
+    private final DoubleInvestmentEngine engine = new DoubleInvestmentEngine();
+
+    @Test
+    void testGridMatchesIndividualRuns() {
+        System.out.println("\n=== Test: Sweep Grid vs Individual Runs ===");
+
+        double[] rates = SweepGridEngine.axis(0, 15, 0.5);
+        int[] years = SweepGridEngine.yearsAxis(1, 50);
+        double[] contributions = {0, 6000, 12000, -2000};
+
+        for (int perYear : new int[] {1, 4, 12, 3}) {
+            for (boolean atBeginning : new boolean[] {true, false}) {
+                long startNanos = System.nanoTime();
+                SweepGrid grid = sweepEngine.sweep(20000, rates, years, contributions, "Monthly", perYear, atBeginning);
+                double elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+
+                assertEquals(rates.length * years.length * contributions.length, grid.getCellCount());
+                System.out.printf("%d cells (%d contributions/yr, %s) in %.2f ms%n",
+                    grid.getCellCount(), perYear, atBeginning ? "beginning" : "end", elapsedMillis);
+
+                for (int r = 0; r < rates.length; r += 7) {
+                    for (int y = 0; y < years.length; y += 11) {
+                        for (int c = 0; c < contributions.length; c++) {
+                            double expected = engine.calculateInvestment(
+                                new BigDecimal("20000"), years[y], BigDecimal.valueOf(rates[r]), "Monthly",
+                                BigDecimal.valueOf(contributions[c]), perYear, atBeginning).getEndBalance().doubleValue();
+                            double actual = grid.getEndBalance(r, y, c);
+                            assertEquals(expected, actual,
+                                Math.max(1.0, Math.abs(expected)) * DoubleInvestmentEngine.RELATIVE_TOLERANCE,
+                                String.format("rate=%s years=%d contribution=%s", rates[r], years[y], contributions[c]));
+                        }
+                    }
+                }
+            }
+        }
+
+        System.out.println("Result:   ✅ PASS");
+    }
+
+    @Test
+    void testAxes() {
+        assertArrayEquals(new double[] {0, 2.5, 5, 7.5, 10}, SweepGridEngine.axis(0, 10, 2.5));
+        assertEquals(151, SweepGridEngine.axis(0, 15, 0.1).length);
+        assertArrayEquals(new int[] {3, 4, 5}, SweepGridEngine.yearsAxis(3, 5));
+        assertThrows(IllegalArgumentException.class, () -> SweepGridEngine.axis(0, 1, 0));
+    }
+
+    @Test
+    void testUnsortedHorizonsAndZeroYears() {
+        SweepGrid grid = sweepEngine.sweep(1000, new double[] {10}, new int[] {2, 0, 1}, new double[] {1000},
+            "Annually", 1, true);
+
+        assertEquals(3520.0, grid.getEndBalance(0, 0, 0), 1e-6);
+        assertEquals(1000.0, grid.getEndBalance(0, 1, 0), 1e-9);
+        assertEquals(2200.0, grid.getEndBalance(0, 2, 0), 1e-6);
+    }
+}